@@ -0,0 +1,159 @@
+using System;
+using System.Collections.Generic;
+using System.Numerics;
+using System.Runtime.CompilerServices;
+using System.Threading;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Follows the tip of the chain and emits blocks in the height order. Polling backs off while the tip
+    ///    does not move, and missed blocks are fetched in parallel when the follower lags behind.
+    ///    One follower can serve several consumers, they share tip polls.
+    /// </summary>
+    [PublicAPI]
+    public class BlockFollower
+    {
+        private readonly IIconService _iconService;
+        private readonly BlockFollowerOptions _options;
+        private readonly object _tipSync = new object();
+
+        private Task<Block> _tipRequest;
+        private DateTime _tipRequestedAt;
+
+        public BlockFollower(IIconService iconService)
+            : this(iconService, new BlockFollowerOptions())
+        {
+
+        }
+
+        public BlockFollower(IIconService iconService, BlockFollowerOptions options)
+        {
+            if (options.MinPollingInterval <= TimeSpan.Zero || options.MaxPollingInterval < options.MinPollingInterval)
+            {
+                throw new ArgumentException("Polling intervals should be positive and max interval should not be less than min interval", nameof(options));
+            }
+
+            if (options.MaxConcurrency < 1)
+            {
+                throw new ArgumentException("Max concurrency should be positive", nameof(options));
+            }
+
+            _iconService = iconService;
+            _options = options;
+        }
+
+        /// <summary>
+        ///    Emits blocks starting from checkpointHeight + 1. To resume after restart, pass the height
+        ///    of the last processed block as the checkpoint. Failed tip polls are retried with the polling back-off,
+        ///    so the stream ends only on a linkage violation or cancellation.
+        /// </summary>
+        /// <param name="checkpointHeight">
+        ///    Height of the last processed block. Linkage of the first emitted block is checked against it.
+        ///    Pass -1 to start from the genesis block.
+        /// </param>
+        /// <param name="cancellationToken">
+        ///    Stops following
+        /// </param>
+        /// <exception cref="BlockLinkageException">Is thrown in a case when a block does not reference the previous one</exception>
+        public async IAsyncEnumerable<Block> FollowAsync(BigInteger checkpointHeight,
+            [EnumeratorCancellation] CancellationToken cancellationToken = default)
+        {
+            var nextHeight = checkpointHeight + 1;
+            var prevBlockHash = checkpointHeight >= 0
+                ? (await _iconService.GetBlock(checkpointHeight)).GetBlockHash()
+                : null;
+            var pollingInterval = _options.MinPollingInterval;
+
+            while (true)
+            {
+                cancellationToken.ThrowIfCancellationRequested();
+
+                Block tip;
+
+                try
+                {
+                    tip = await GetTipAsync();
+                }
+                catch (Exception) when (!cancellationToken.IsCancellationRequested)
+                {
+                    // Transient node failure (timeout, 5xx, RPC error) - poll again with the same back-off as for an idle tip
+                    tip = null;
+                }
+
+                if (tip == null || tip.GetHeight() < nextHeight)
+                {
+                    await Task.Delay(pollingInterval, cancellationToken);
+
+                    pollingInterval = TimeSpan.FromTicks(Math.Min(pollingInterval.Ticks * 2, _options.MaxPollingInterval.Ticks));
+
+                    continue;
+                }
+
+                var tipHeight = tip.GetHeight();
+
+                pollingInterval = _options.MinPollingInterval;
+
+                if (tipHeight > nextHeight)
+                {
+                    await foreach (var block in _iconService.GetBlocks(nextHeight, tipHeight - 1, _options.MaxConcurrency, cancellationToken))
+                    {
+                        prevBlockHash = CheckLinkage(block, nextHeight, prevBlockHash);
+                        nextHeight++;
+
+                        yield return block;
+                    }
+                }
+
+                prevBlockHash = CheckLinkage(tip, nextHeight, prevBlockHash);
+                nextHeight++;
+
+                yield return tip;
+            }
+        }
+
+        /// <summary>
+        ///    Returns the last block. Consumers, which poll within the min polling interval, share one request.
+        /// </summary>
+        private Task<Block> GetTipAsync()
+        {
+            lock (_tipSync)
+            {
+                var now = DateTime.UtcNow;
+
+                if (_tipRequest == null
+                    || _tipRequest.IsFaulted
+                    || _tipRequest.IsCanceled
+                    || now - _tipRequestedAt >= _options.MinPollingInterval)
+                {
+                    _tipRequest = _iconService.GetLastBlock();
+                    _tipRequestedAt = now;
+                }
+
+                return _tipRequest;
+            }
+        }
+
+        private static Bytes CheckLinkage(Block block, BigInteger expectedHeight, Bytes prevBlockHash)
+        {
+            var height = block.GetHeight();
+
+            if (height != expectedHeight)
+            {
+                throw new InvalidOperationException($"Block {expectedHeight} was expected, but block {height} has been received");
+            }
+
+            var actualPrevBlockHash = block.GetPrevBlockHash();
+
+            if (prevBlockHash != null && !prevBlockHash.Equals(actualPrevBlockHash))
+            {
+                throw new BlockLinkageException(height, prevBlockHash, actualPrevBlockHash);
+            }
+
+            return block.GetBlockHash();
+        }
+    }
+}
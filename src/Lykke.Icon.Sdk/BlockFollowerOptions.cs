@@ -0,0 +1,27 @@
+using System;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Optional settings of BlockFollower
+    /// </summary>
+    [PublicAPI]
+    public class BlockFollowerOptions
+    {
+        /// <summary>
+        ///    Delay between tip polls right after a new block has been observed
+        /// </summary>
+        public TimeSpan MinPollingInterval { get; set; } = TimeSpan.FromSeconds(1);
+
+        /// <summary>
+        ///    Upper bound of the delay between tip polls while the tip does not move
+        /// </summary>
+        public TimeSpan MaxPollingInterval { get; set; } = TimeSpan.FromSeconds(8);
+
+        /// <summary>
+        ///    Max number of blocks requested in parallel while the follower catches up with the tip
+        /// </summary>
+        public int MaxConcurrency { get; set; } = 8;
+    }
+}
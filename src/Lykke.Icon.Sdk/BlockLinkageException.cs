@@ -0,0 +1,28 @@
+using System;
+using System.Numerics;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Is thrown when a block does not reference the hash of the previously received block
+    /// </summary>
+    [PublicAPI]
+    public class BlockLinkageException : Exception
+    {
+        public BlockLinkageException(BigInteger height, Bytes expectedPrevBlockHash, Bytes actualPrevBlockHash)
+            : base($"Block {height} references previous block {actualPrevBlockHash}, but {expectedPrevBlockHash} was expected")
+        {
+            Height = height;
+            ExpectedPrevBlockHash = expectedPrevBlockHash;
+            ActualPrevBlockHash = actualPrevBlockHash;
+        }
+
+        public BigInteger Height { get; }
+
+        public Bytes ExpectedPrevBlockHash { get; }
+
+        public Bytes ActualPrevBlockHash { get; }
+    }
+}
@@ -0,0 +1,209 @@
+using System;
+using System.Collections.Generic;
+using System.Numerics;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk.Caching
+{
+    /// <summary>
+    ///    Bounded LRU cache of blocks. Each block is reachable both by its height and by its hash.
+    ///    Blocks are evicted when their total weight exceeds the budget.
+    /// </summary>
+    [PublicAPI]
+    public class BlockCache
+    {
+        private const long BaseBlockWeight = 2 * 1024;
+        private const long TransactionWeight = 1024;
+
+        private readonly object _sync = new object();
+        private readonly long _maxWeight;
+        private readonly Func<Block, long> _weigher;
+        private readonly LinkedList<Entry> _entries;
+        private readonly Dictionary<BigInteger, LinkedListNode<Entry>> _entriesByHeight;
+        private readonly Dictionary<Bytes, LinkedListNode<Entry>> _entriesByHash;
+
+        private long _weight;
+        private long _hits;
+        private long _misses;
+        private long _evictions;
+
+        /// <summary>
+        ///    Creates cache with the default weigher, which roughly estimates memory footprint of a block in bytes
+        /// </summary>
+        /// <param name="maxWeight">
+        ///    Memory budget of the cache in bytes
+        /// </param>
+        public BlockCache(long maxWeight)
+            : this(maxWeight, EstimateWeight)
+        {
+
+        }
+
+        /// <param name="maxWeight">
+        ///    Max total weight of cached blocks
+        /// </param>
+        /// <param name="weigher">
+        ///    Returns weight of a block
+        /// </param>
+        public BlockCache(long maxWeight, Func<Block, long> weigher)
+        {
+            if (maxWeight <= 0)
+            {
+                throw new ArgumentException("Max weight should be positive", nameof(maxWeight));
+            }
+
+            _maxWeight = maxWeight;
+            _weigher = weigher ?? throw new ArgumentNullException(nameof(weigher));
+            _entries = new LinkedList<Entry>();
+            _entriesByHeight = new Dictionary<BigInteger, LinkedListNode<Entry>>();
+            _entriesByHash = new Dictionary<Bytes, LinkedListNode<Entry>>();
+        }
+
+        public bool TryGet(BigInteger height, out Block block)
+        {
+            lock (_sync)
+            {
+                _entriesByHeight.TryGetValue(height, out var node);
+
+                return TryGet(node, out block);
+            }
+        }
+
+        public bool TryGet(Bytes hash, out Block block)
+        {
+            lock (_sync)
+            {
+                _entriesByHash.TryGetValue(hash, out var node);
+
+                return TryGet(node, out block);
+            }
+        }
+
+        /// <summary>
+        ///    Adds block to the cache. Blocks without hash are ignored, as well as blocks heavier than the whole budget.
+        /// </summary>
+        public void Add(Block block)
+        {
+            var hash = block.GetBlockHash();
+
+            if (hash == null)
+            {
+                return;
+            }
+
+            var height = block.GetHeight();
+            var weight = _weigher(block);
+
+            if (weight > _maxWeight)
+            {
+                return;
+            }
+
+            lock (_sync)
+            {
+                if (_entriesByHash.TryGetValue(hash, out var existingNode))
+                {
+                    _entries.Remove(existingNode);
+                    _entries.AddFirst(existingNode);
+
+                    return;
+                }
+
+                // Defensive: another block at the same height must not stay reachable by the height
+                if (_entriesByHeight.TryGetValue(height, out existingNode))
+                {
+                    Remove(existingNode);
+                }
+
+                var node = _entries.AddFirst(new Entry(height, hash, block, weight));
+
+                _entriesByHeight[height] = node;
+                _entriesByHash[hash] = node;
+                _weight += weight;
+
+                while (_weight > _maxWeight)
+                {
+                    Remove(_entries.Last);
+
+                    _evictions++;
+                }
+            }
+        }
+
+        public void Clear()
+        {
+            lock (_sync)
+            {
+                _entries.Clear();
+                _entriesByHeight.Clear();
+                _entriesByHash.Clear();
+                _weight = 0;
+            }
+        }
+
+        public BlockCacheStatistics GetStatistics()
+        {
+            lock (_sync)
+            {
+                return new BlockCacheStatistics(_hits, _misses, _evictions, _entries.Count, _weight);
+            }
+        }
+
+        private bool TryGet(LinkedListNode<Entry> node, out Block block)
+        {
+            if (node == null)
+            {
+                _misses++;
+                block = null;
+
+                return false;
+            }
+
+            _entries.Remove(node);
+            _entries.AddFirst(node);
+            _hits++;
+            block = node.Value.Block;
+
+            return true;
+        }
+
+        private void Remove(LinkedListNode<Entry> node)
+        {
+            var entry = node.Value;
+
+            _entries.Remove(node);
+            _entriesByHeight.Remove(entry.Height);
+            _entriesByHash.Remove(entry.Hash);
+            _weight -= entry.Weight;
+        }
+
+        private static long EstimateWeight(Block block)
+        {
+            var transactions = block.GetProperties().GetItem("confirmed_transaction_list");
+            var transactionCount = transactions is RpcArray array ? array.Size() : 0;
+
+            return BaseBlockWeight + transactionCount * TransactionWeight;
+        }
+
+        private sealed class Entry
+        {
+            public Entry(BigInteger height, Bytes hash, Block block, long weight)
+            {
+                Height = height;
+                Hash = hash;
+                Block = block;
+                Weight = weight;
+            }
+
+            public BigInteger Height { get; }
+
+            public Bytes Hash { get; }
+
+            public Block Block { get; }
+
+            public long Weight { get; }
+        }
+    }
+}
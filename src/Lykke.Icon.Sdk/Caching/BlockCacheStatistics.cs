@@ -0,0 +1,36 @@
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Caching
+{
+    /// <summary>
+    ///    Snapshot of the BlockCache counters
+    /// </summary>
+    [PublicAPI]
+    public class BlockCacheStatistics
+    {
+        public BlockCacheStatistics(long hits, long misses, long evictions, int count, long weight)
+        {
+            Hits = hits;
+            Misses = misses;
+            Evictions = evictions;
+            Count = count;
+            Weight = weight;
+        }
+
+        public long Hits { get; }
+
+        public long Misses { get; }
+
+        public long Evictions { get; }
+
+        /// <summary>
+        ///    Number of cached blocks
+        /// </summary>
+        public int Count { get; }
+
+        /// <summary>
+        ///    Total estimated weight of cached blocks
+        /// </summary>
+        public long Weight { get; }
+    }
+}
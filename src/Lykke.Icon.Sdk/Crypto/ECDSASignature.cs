@@ -1,12 +1,10 @@
 using System;
 using System.Collections.Generic;
+using System.Threading.Tasks;
 using JetBrains.Annotations;
 using Lykke.Icon.Sdk.Data;
 using Org.BouncyCastle.Asn1.X9;
-using Org.BouncyCastle.Crypto.Digests;
-using Org.BouncyCastle.Crypto.EC;
 using Org.BouncyCastle.Crypto.Parameters;
-using Org.BouncyCastle.Crypto.Signers;
 using Org.BouncyCastle.Math;
 using Org.BouncyCastle.Math.EC;
 using Org.BouncyCastle.Utilities;
@@ -20,19 +18,18 @@ public class EcdsaSignature
         private static readonly BigInteger SecP256K1CurveQ 
             = new BigInteger(1, Hex.Decode("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F"));
 
-        private readonly static X9ECParameters _curveParams;
-        private readonly static ECDomainParameters _curve;
-        private readonly Bytes _privateKey;
+        private static readonly ECDomainParameters _curve = SigningKey.Curve;
+        private readonly SigningKey _signingKey;
 
-        static EcdsaSignature()
+        public EcdsaSignature(Bytes privateKey)
+            : this(new SigningKey(privateKey))
         {
-            _curveParams = CustomNamedCurves.GetByName("secp256k1");
-            _curve = new ECDomainParameters(_curveParams.Curve, _curveParams.G, _curveParams.N, _curveParams.H);
+
         }
 
-        public EcdsaSignature(Bytes privateKey)
+        public EcdsaSignature(SigningKey signingKey)
         {
-            _privateKey = privateKey;
+            _signingKey = signingKey;
         }
 
         /// <summary>
@@ -54,22 +51,7 @@ public byte[] RecoverableSerialize(BigInteger[] sig, byte[] message)
         /// </summary>
         public BigInteger[] GenerateSignature(byte[] message)
         {
-            var p = new BigInteger(1, _privateKey.ToByteArray());
-            var signer = new ECDsaSigner(new HMacDsaKCalculator(new Sha256Digest()));
-            var param = new ECPrivateKeyParameters(p, _curve);
-            
-            signer.Init(true, param);
-            
-            var sig = signer.GenerateSignature(message);
-            var r = sig[0];
-            var s = sig[1];
-            
-            if (s.CompareTo(_curveParams.N.ShiftRight(1)) > 0)
-            {
-                s = _curve.N.Subtract(s);
-            }
-            
-            return new[] { r, s };
+            return _signingKey.GenerateSignature(message);
         }
 
         /// <summary>
@@ -78,7 +60,7 @@ public BigInteger[] GenerateSignature(byte[] message)
         /// </summary>
         public byte FindRecoveryId(BigInteger[] sig, byte[] message)
         {
-            var publicKey = IconKeys.GetPublicKey(_privateKey);
+            var publicKey = _signingKey.GetPublicKey();
             var p = new BigInteger(1, publicKey.ToByteArray());
             var recId = -1;
             
@@ -101,10 +83,82 @@ public byte FindRecoveryId(BigInteger[] sig, byte[] message)
         }
 
         public static bool VerifySignature(Address signerAddress, byte[] signature, byte[] data)
+        {
+            return VerifySignature(signerAddress, signature, data, null);
+        }
+
+        /// <summary>
+        ///    Verifies the signature. The cache, if specified, is checked before the signer is recovered
+        ///    and is filled with the recovered signer.
+        /// </summary>
+        public static bool VerifySignature(Address signerAddress, byte[] signature, byte[] data, VerifiedSignatureCache cache)
         {
             CheckArgument(signerAddress != null, "signerAddress should not be null");
             CheckArgument(signature != null && signature.Length == 65, "signature should be 65 bytes length");
+            CheckArgument(data != null, "data should not be null");
+
+            if (cache == null || !cache.TryGetSigner(signature, data, out var address))
+            {
+                address = RecoverSignerAddress(signature, data);
+
+                if (address == null)
+                {
+                    return false;
+                }
+
+                cache?.AddSigner(signature, data, address);
+            }
+
+            return address.Equals(signerAddress);
+        }
+
+        /// <summary>
+        ///    Verifies the signatures in parallel. Results are returned in the order of requests.
+        ///    Malformed requests (missing signer, signature of wrong length, signature which does not
+        ///    decode to a curve point) are reported as not verified instead of failing the whole batch.
+        /// </summary>
+        public static bool[] VerifySignatures(IReadOnlyList<SignatureVerificationRequest> requests, int degreeOfParallelism,
+            VerifiedSignatureCache cache = null)
+        {
+            CheckArgument(requests != null, "requests should not be null");
+            CheckArgument(degreeOfParallelism > 0, "degreeOfParallelism should be positive");
+
+            var results = new bool[requests.Count];
+            var parallelOptions = new ParallelOptions { MaxDegreeOfParallelism = degreeOfParallelism };
+
+            Parallel.For(0, requests.Count, parallelOptions, i =>
+            {
+                results[i] = TryVerifySignature(requests[i], cache);
+            });
+
+            return results;
+        }
+
+        private static bool TryVerifySignature(SignatureVerificationRequest request, VerifiedSignatureCache cache)
+        {
+            if (request == null)
+            {
+                return false;
+            }
 
+            try
+            {
+                return VerifySignature(request.SignerAddress, request.Signature, request.Data, cache);
+            }
+            catch (ArgumentException)
+            {
+                // Invalid arguments and points which are not on the curve
+                return false;
+            }
+            catch (ArithmeticException)
+            {
+                // Zero r, which has no modular inverse
+                return false;
+            }
+        }
+
+        private static Address RecoverSignerAddress(byte[] signature, byte[] data)
+        {
             var r = new byte[32];
             var s = new byte[32];
             var v = signature[64];
@@ -112,15 +166,14 @@ public static bool VerifySignature(Address signerAddress, byte[] signature, byte
             Array.Copy(signature, 32, s, 0, 32);
             var sig = new BigInteger[] { new BigInteger(1, r), new BigInteger(1, s) };
 
-            var signerResult = EcdsaSignature.RecoverFromSignature(v, sig, data);
+            var signerResult = RecoverFromSignature(v, sig, data);
 
             if (signerResult == null)
-                return false;
+                return null;
 
             var signedBytes = new Bytes(signerResult);
-            var address = IconKeys.GetAddress(signedBytes);
 
-            return address?.Equals(signerAddress) ?? false;
+            return IconKeys.GetAddress(signedBytes);
         }
 
         /// <summary>
@@ -2,8 +2,6 @@
 using System.Text.RegularExpressions;
 using JetBrains.Annotations;
 using Lykke.Icon.Sdk.Data;
-using Org.BouncyCastle.Asn1.X9;
-using Org.BouncyCastle.Crypto.Digests;
 using Org.BouncyCastle.Crypto.EC;
 using Org.BouncyCastle.Crypto.Parameters;
 using Org.BouncyCastle.Math;
@@ -16,6 +14,8 @@ namespace Lykke.Icon.Sdk.Crypto
     [PublicAPI]
     public static class IconKeys
     {
+        private const int AddressBodySize = 20;
+
         private static SecureRandom _secureRandom;
         
         public static int AddressSize = 160;
@@ -56,8 +56,7 @@ public static Bytes CreatePrivateKey()
         public static Bytes GetPublicKey(Bytes privateKey)
         {
             var pkBytes = privateKey.ToByteArray();
-            var spec = ECNamedCurveTable.GetByName("secp256k1");
-            var pointQ = spec.G.Multiply(new BigInteger(1, pkBytes));
+            var pointQ = SigningKey.MultiplyBasePoint(new BigInteger(1, pkBytes));
             var publicKeyBytes = pointQ.GetEncoded(false);
             
             return new Bytes(Arrays.CopyOfRange(publicKeyBytes, 1, publicKeyBytes.Length));
@@ -84,17 +83,23 @@ public static AddressPrefix GetAddressHexPrefix(string input)
 
         public static byte[] GetAddressHash(byte[] publicKey)
         {
-            var digest = new Sha3Digest(256);
-            var output = new byte[digest.GetDigestSize()];
-            
-            digest.BlockUpdate(publicKey, 0, publicKey.Length);
-            digest.DoFinal(output, 0);
-            
-            var result = new byte[20];
-            
-            Array.Copy(output, output.Length - 20, result, 0, 20);
+            Span<byte> hash = stackalloc byte[Sha3Hasher.HashSize];
+
+            Sha3Hasher.Hash(publicKey, 0, publicKey.Length, hash);
+
+            return hash.Slice(Sha3Hasher.HashSize - AddressBodySize).ToArray();
+        }
+
+        /// <summary>
+        ///    Writes the address body (last 20 bytes of SHA3-256 hash of the public key) into the destination
+        /// </summary>
+        public static void GetAddressHash(ReadOnlySpan<byte> publicKey, Span<byte> destination)
+        {
+            Span<byte> hash = stackalloc byte[Sha3Hasher.HashSize];
+
+            Sha3Hasher.Hash(publicKey, hash);
 
-            return result;
+            hash.Slice(Sha3Hasher.HashSize - AddressBodySize).CopyTo(destination);
         }
 
         public static bool IsContractAddress(Address address)
@@ -0,0 +1,140 @@
+using System;
+using System.Buffers;
+using JetBrains.Annotations;
+using Org.BouncyCastle.Crypto.Digests;
+
+namespace Lykke.Icon.Sdk.Crypto
+{
+    /// <summary>
+    ///    SHA3-256 hashing with a digest per thread. Digests are reset after each hash, so callers never
+    ///    see a partially updated state. Methods are thread-safe.
+    /// </summary>
+    [PublicAPI]
+    public static class Sha3Hasher
+    {
+        public const int HashSize = 32;
+
+        private const int InputChunkSize = 1024;
+
+        [ThreadStatic]
+        private static Sha3Digest _digest;
+
+        [ThreadStatic]
+        private static byte[] _output;
+
+        public static byte[] Hash(byte[] data)
+        {
+            if (data == null)
+            {
+                throw new ArgumentNullException(nameof(data));
+            }
+
+            return Hash(data, 0, data.Length);
+        }
+
+        public static byte[] Hash(byte[] data, int offset, int count)
+        {
+            var hash = new byte[HashSize];
+
+            Hash(data, offset, count, hash);
+
+            return hash;
+        }
+
+        /// <summary>
+        ///    Hashes the data into the destination, which should be at least HashSize bytes long
+        /// </summary>
+        public static void Hash(byte[] data, int offset, int count, Span<byte> destination)
+        {
+            if (data == null)
+            {
+                throw new ArgumentNullException(nameof(data));
+            }
+
+            if (offset < 0 || offset > data.Length)
+            {
+                throw new ArgumentOutOfRangeException(nameof(offset), "Offset should be within the data");
+            }
+
+            if (count < 0 || count > data.Length - offset)
+            {
+                throw new ArgumentOutOfRangeException(nameof(count), "Count should not exceed the data length after the offset");
+            }
+
+            if (destination.Length < HashSize)
+            {
+                throw new ArgumentException($"Destination should be at least {HashSize} bytes long", nameof(destination));
+            }
+
+            var digest = GetDigest();
+
+            try
+            {
+                digest.BlockUpdate(data, offset, count);
+
+                Complete(digest, destination);
+            }
+            catch
+            {
+                digest.Reset();
+
+                throw;
+            }
+        }
+
+        /// <summary>
+        ///    Hashes the data into the destination, which should be at least HashSize bytes long
+        /// </summary>
+        public static void Hash(ReadOnlySpan<byte> data, Span<byte> destination)
+        {
+            if (destination.Length < HashSize)
+            {
+                throw new ArgumentException($"Destination should be at least {HashSize} bytes long", nameof(destination));
+            }
+
+            var digest = GetDigest();
+
+            // BouncyCastle digests accept arrays only, so the span is passed through a small pooled chunk
+            var chunk = ArrayPool<byte>.Shared.Rent(Math.Min(data.Length, InputChunkSize));
+
+            try
+            {
+                while (!data.IsEmpty)
+                {
+                    var chunkLength = Math.Min(data.Length, chunk.Length);
+
+                    data.Slice(0, chunkLength).CopyTo(chunk);
+                    digest.BlockUpdate(chunk, 0, chunkLength);
+
+                    data = data.Slice(chunkLength);
+                }
+
+                Complete(digest, destination);
+            }
+            catch
+            {
+                digest.Reset();
+
+                throw;
+            }
+            finally
+            {
+                ArrayPool<byte>.Shared.Return(chunk);
+            }
+        }
+
+        private static Sha3Digest GetDigest()
+        {
+            return _digest ?? (_digest = new Sha3Digest(256));
+        }
+
+        private static void Complete(Sha3Digest digest, Span<byte> destination)
+        {
+            var output = _output ?? (_output = new byte[HashSize]);
+
+            digest.DoFinal(output, 0);
+
+            output.AsSpan().CopyTo(destination);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk.Crypto
+{
+    /// <summary>
+    ///    Signature with the data hash and the address of the expected signer
+    /// </summary>
+    [PublicAPI]
+    public class SignatureVerificationRequest
+    {
+        public SignatureVerificationRequest(Address signerAddress, byte[] signature, byte[] data)
+        {
+            SignerAddress = signerAddress;
+            Signature = signature;
+            Data = data;
+        }
+
+        public Address SignerAddress { get; }
+
+        /// <summary>
+        ///    Signature serialized as r (32 bytes), s (32 bytes) and recovery id
+        /// </summary>
+        public byte[] Signature { get; }
+
+        /// <summary>
+        ///    Signed hash
+        /// </summary>
+        public byte[] Data { get; }
+    }
+}
@@ -0,0 +1,185 @@
+using System;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+using Org.BouncyCastle.Asn1.X9;
+using Org.BouncyCastle.Crypto.Digests;
+using Org.BouncyCastle.Crypto.EC;
+using Org.BouncyCastle.Crypto.Parameters;
+using Org.BouncyCastle.Crypto.Signers;
+using Org.BouncyCastle.Math;
+using Org.BouncyCastle.Math.EC;
+using Org.BouncyCastle.Math.EC.Multiplier;
+using Org.BouncyCastle.Utilities;
+
+namespace Lykke.Icon.Sdk.Crypto
+{
+    /// <summary>
+    ///    Private key prepared for repeated signing. Key parameters and the public key are computed once,
+    ///    multiplications by G use the comb table, which is precomputed once per process.
+    ///    Signatures are deterministic (RFC 6979) and identical to the ones of ECDsaSigner.
+    ///    Instances are thread-safe.
+    /// </summary>
+    [PublicAPI]
+    public sealed class SigningKey
+    {
+        internal static readonly X9ECParameters CurveParams;
+        internal static readonly ECDomainParameters Curve;
+        internal static readonly BigInteger HalfCurveOrder;
+
+        private static readonly ECMultiplier BasePointMultiplier;
+
+        [ThreadStatic]
+        private static HMacDsaKCalculator _kCalculator;
+
+        private readonly ECPrivateKeyParameters _privateKeyParameters;
+        private readonly Lazy<Bytes> _publicKey;
+
+        static SigningKey()
+        {
+            CurveParams = CustomNamedCurves.GetByName("secp256k1");
+            Curve = new ECDomainParameters(CurveParams.Curve, CurveParams.G, CurveParams.N, CurveParams.H);
+            HalfCurveOrder = Curve.N.ShiftRight(1);
+            BasePointMultiplier = new FixedPointCombMultiplier();
+
+            // Comb table is attached to the G instance, so it is built here once and reused by all keys
+            BasePointMultiplier.Multiply(Curve.G, BigInteger.One);
+        }
+
+        public SigningKey(Bytes privateKey)
+        {
+            if (privateKey == null)
+            {
+                throw new ArgumentNullException(nameof(privateKey));
+            }
+
+            var d = new BigInteger(1, privateKey.ToByteArray());
+
+            _privateKeyParameters = new ECPrivateKeyParameters(d, Curve);
+            _publicKey = new Lazy<Bytes>(() => GetPublicKey(d));
+        }
+
+        /// <summary>
+        ///    Gets the public key without the encoding prefix
+        /// </summary>
+        public Bytes GetPublicKey()
+        {
+            return _publicKey.Value;
+        }
+
+        /// <summary>
+        ///    Generates a signature for the given message hash. S is normalized to the lower half of the curve order.
+        /// </summary>
+        public BigInteger[] GenerateSignature(byte[] message)
+        {
+            return GenerateSignature(message, out _);
+        }
+
+        /// <summary>
+        ///    Generates a signature for the given message hash and returns the recovery id of the signature.
+        ///    The recovery id is taken from the nonce point R, so no public key recovery is needed.
+        /// </summary>
+        public BigInteger[] GenerateSignature(byte[] message, out byte recoveryId)
+        {
+            if (message == null)
+            {
+                throw new ArgumentNullException(nameof(message));
+            }
+
+            // Same steps as ECDsaSigner.GenerateSignature, but the nonce point is kept to derive the recovery id
+            var n = Curve.N;
+            var d = _privateKeyParameters.D;
+            var e = CalculateE(n, message);
+            var kCalculator = _kCalculator ?? (_kCalculator = new HMacDsaKCalculator(new Sha256Digest()));
+
+            kCalculator.Init(n, d, message);
+
+            BigInteger r, s;
+            ECPoint noncePoint;
+
+            do
+            {
+                BigInteger k;
+
+                do
+                {
+                    k = kCalculator.NextK();
+                    noncePoint = MultiplyBasePoint(k).Normalize();
+                    r = noncePoint.AffineXCoord.ToBigInteger().Mod(n);
+                }
+                while (r.SignValue == 0);
+
+                s = k.ModInverse(n).Multiply(e.Add(d.Multiply(r))).Mod(n);
+            }
+            while (s.SignValue == 0);
+
+            // Bit 0 is the parity of R.y, bit 1 tells that R.x has been reduced modulo n
+            var recId = noncePoint.AffineYCoord.TestBitZero() ? 1 : 0;
+
+            if (noncePoint.AffineXCoord.ToBigInteger().CompareTo(n) >= 0)
+            {
+                recId |= 2;
+            }
+
+            // Negating s corresponds to the signature with -R, which has the opposite y parity
+            if (s.CompareTo(HalfCurveOrder) > 0)
+            {
+                s = n.Subtract(s);
+                recId ^= 1;
+            }
+
+            recoveryId = (byte) recId;
+
+            return new[] { r, s };
+        }
+
+        /// <summary>
+        ///    Signs the message hash and serializes the signature as r (32 bytes), s (32 bytes) and recovery id
+        /// </summary>
+        public byte[] SignRecoverable(byte[] message)
+        {
+            var sig = GenerateSignature(message, out var recoveryId);
+            var result = new byte[65];
+
+            WriteUnsigned(sig[0], result, 0);
+            WriteUnsigned(sig[1], result, 32);
+            result[64] = recoveryId;
+
+            return result;
+        }
+
+        /// <summary>
+        ///    Computes d * G using the precomputed comb table
+        /// </summary>
+        internal static ECPoint MultiplyBasePoint(BigInteger d)
+        {
+            return BasePointMultiplier.Multiply(Curve.G, d);
+        }
+
+        private static BigInteger CalculateE(BigInteger n, byte[] message)
+        {
+            var messageBitLength = message.Length * 8;
+            var trunc = new BigInteger(1, message);
+
+            if (n.BitLength < messageBitLength)
+            {
+                trunc = trunc.ShiftRight(messageBitLength - n.BitLength);
+            }
+
+            return trunc;
+        }
+
+        private static void WriteUnsigned(BigInteger value, byte[] destination, int offset)
+        {
+            var bytes = value.ToByteArrayUnsigned();
+
+            Array.Copy(bytes, 0, destination, offset + 32 - bytes.Length, bytes.Length);
+        }
+
+        private static Bytes GetPublicKey(BigInteger d)
+        {
+            var publicKeyBytes = MultiplyBasePoint(d).GetEncoded(false);
+
+            return new Bytes(Arrays.CopyOfRange(publicKeyBytes, 1, publicKeyBytes.Length));
+        }
+    }
+}
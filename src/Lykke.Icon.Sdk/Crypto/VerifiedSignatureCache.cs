@@ -0,0 +1,158 @@
+using System;
+using System.Collections.Concurrent;
+using System.Threading;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk.Crypto
+{
+    /// <summary>
+    ///    Cache of addresses recovered from (data hash, signature) pairs, so a signature, which has been seen
+    ///    before, is not recovered again. Keeps two generations of entries: when the current generation is full,
+    ///    it replaces the previous one, so the cache holds at most twice the capacity. Is thread-safe.
+    /// </summary>
+    [PublicAPI]
+    public class VerifiedSignatureCache
+    {
+        private readonly int _capacity;
+
+        private Generation _currentGeneration;
+        private Generation _previousGeneration;
+        private long _hits;
+        private long _misses;
+
+        public VerifiedSignatureCache(int capacity)
+        {
+            if (capacity < 1)
+            {
+                throw new ArgumentException("Capacity should be positive", nameof(capacity));
+            }
+
+            _capacity = capacity;
+            _currentGeneration = new Generation();
+            _previousGeneration = new Generation();
+        }
+
+        public long GetHits()
+        {
+            return Interlocked.Read(ref _hits);
+        }
+
+        public long GetMisses()
+        {
+            return Interlocked.Read(ref _misses);
+        }
+
+        internal bool TryGetSigner(byte[] signature, byte[] data, out Address signerAddress)
+        {
+            var key = new SignatureKey(signature, data);
+            var currentGeneration = Volatile.Read(ref _currentGeneration);
+
+            if (currentGeneration.Entries.TryGetValue(key, out signerAddress))
+            {
+                Interlocked.Increment(ref _hits);
+
+                return true;
+            }
+
+            if (Volatile.Read(ref _previousGeneration).Entries.TryGetValue(key, out signerAddress))
+            {
+                Interlocked.Increment(ref _hits);
+
+                // Entry is still in use, so it should survive the next generation swap
+                AddSigner(key.Copy(), signerAddress);
+
+                return true;
+            }
+
+            Interlocked.Increment(ref _misses);
+
+            return false;
+        }
+
+        internal void AddSigner(byte[] signature, byte[] data, Address signerAddress)
+        {
+            AddSigner(new SignatureKey(signature, data).Copy(), signerAddress);
+        }
+
+        private void AddSigner(SignatureKey key, Address signerAddress)
+        {
+            var currentGeneration = Volatile.Read(ref _currentGeneration);
+
+            // ConcurrentDictionary.Count takes all bucket locks, so added entries are counted separately
+            if (currentGeneration.Entries.TryAdd(key, signerAddress)
+                && Interlocked.Increment(ref currentGeneration.Count) == _capacity)
+            {
+                // Only one thread reaches the capacity of the generation, so the swap needs no lock
+                Volatile.Write(ref _previousGeneration, currentGeneration);
+                Volatile.Write(ref _currentGeneration, new Generation());
+            }
+        }
+
+        private sealed class Generation
+        {
+            public readonly ConcurrentDictionary<SignatureKey, Address> Entries = new ConcurrentDictionary<SignatureKey, Address>();
+
+            public int Count;
+        }
+
+        private struct SignatureKey : IEquatable<SignatureKey>
+        {
+            private readonly byte[] _signature;
+            private readonly byte[] _data;
+            private readonly int _hashCode;
+
+            public SignatureKey(byte[] signature, byte[] data)
+            {
+                _signature = signature;
+                _data = data;
+                _hashCode = GetHashCode(signature, GetHashCode(data, 17));
+            }
+
+            /// <summary>
+            ///    Returns key, which owns its arrays. Stored keys should not depend on the buffers of callers.
+            /// </summary>
+            public SignatureKey Copy()
+            {
+                return new SignatureKey((byte[]) _signature.Clone(), (byte[]) _data.Clone());
+            }
+
+            public bool Equals(SignatureKey other)
+            {
+                return _hashCode == other._hashCode
+                    && AreEqual(_signature, other._signature)
+                    && AreEqual(_data, other._data);
+            }
+
+            public override bool Equals(object obj)
+            {
+                return obj is SignatureKey other && Equals(other);
+            }
+
+            public override int GetHashCode()
+            {
+                return _hashCode;
+            }
+
+            private static int GetHashCode(byte[] bytes, int seed)
+            {
+                unchecked
+                {
+                    var hashCode = seed;
+
+                    foreach (var b in bytes)
+                    {
+                        hashCode = hashCode * 31 + b;
+                    }
+
+                    return hashCode;
+                }
+            }
+
+            private static bool AreEqual(byte[] left, byte[] right)
+            {
+                return new ReadOnlySpan<byte>(left).SequenceEqual(right);
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ public class Address
         
         private bool _isMalformed;
         private string _malformedAddress;
+        private int _hashCode;
 
         private Address()
         {
@@ -67,6 +68,11 @@ public bool IsMalformed()
             return _isMalformed;
         }
 
+        internal ReadOnlySpan<byte> GetBodySpan()
+        {
+            return _body;
+        }
+
         public override string ToString()
         {
             if (_isMalformed)
@@ -120,7 +126,35 @@ public override bool Equals(object obj)
 
         public override int GetHashCode()
         {
-            return this.ToString().GetHashCode();
+            // Computed over the body bytes to avoid building the hex string on each dictionary lookup.
+            // Zero means "not computed yet", the race on the first call is benign
+            var hashCode = _hashCode;
+
+            if (hashCode == 0)
+            {
+                hashCode = _isMalformed
+                    ? _malformedAddress?.GetHashCode() ?? 0
+                    : GetBodyHashCode(_prefix, _body);
+
+                _hashCode = hashCode;
+            }
+
+            return hashCode;
+        }
+
+        private static int GetBodyHashCode(AddressPrefix prefix, byte[] body)
+        {
+            unchecked
+            {
+                var hashCode = prefix?.GetHashCode() ?? 17;
+
+                foreach (var b in body)
+                {
+                    hashCode = hashCode * 31 + b;
+                }
+
+                return hashCode;
+            }
         }
 
         public static byte[] GetAddressBody(string address)
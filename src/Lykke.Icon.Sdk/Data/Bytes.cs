@@ -1,7 +1,5 @@
 using System;
-using System.Linq;
-using System.Text;
-using System.Text.RegularExpressions;
+using System.Runtime.InteropServices;
 using JetBrains.Annotations;
 using Org.BouncyCastle.Math;
 using Org.BouncyCastle.Utilities.Encoders;
@@ -16,14 +14,28 @@ public class Bytes
     {
         public const string HexPrefix = "0x";
 
+        private const int MaxStackAllocatedChars = 256;
+
         private readonly byte[] _data;
 
         
         public Bytes(string hexString)
         {
-            if (!IsValidHex(hexString))
-                throw new ArgumentException("The value is not hex string.");
-            _data = Hex.Decode(CleanHexPrefix(hexString));
+            var hex = CleanHexPrefix(hexString.AsSpan());
+
+            if (hex.Length % 2 == 0)
+            {
+                _data = hex.Length != 0 ? new byte[hex.Length / 2] : null;
+
+                if (_data == null || !HexConverter.TryDecode(hex, _data, true))
+                    throw new ArgumentException("The value is not hex string.");
+            }
+            else
+            {
+                if (!IsValidHex(hex))
+                    throw new ArgumentException("The value is not hex string.");
+                _data = Hex.Decode(hex.ToString());
+            }
         }
 
         public Bytes(byte[] data)
@@ -36,6 +48,32 @@ public Bytes(BigInteger value)
             _data = value.ToByteArray();
         }
 
+        /// <summary>
+        ///    Parses even-length hex string with optional 0x prefix
+        /// </summary>
+        public static bool TryParse(ReadOnlySpan<char> hexString, out Bytes bytes)
+        {
+            var hex = CleanHexPrefix(hexString);
+
+            bytes = null;
+
+            if (hex.Length == 0 || hex.Length % 2 != 0)
+            {
+                return false;
+            }
+
+            var data = new byte[hex.Length / 2];
+
+            if (!HexConverter.TryDecode(hex, data, true))
+            {
+                return false;
+            }
+
+            bytes = new Bytes(data);
+
+            return true;
+        }
+
         public int Length()
         {
             return _data?.Length ?? 0;
@@ -50,11 +88,23 @@ public byte[] ToByteArray()
         }
 
         /// <summary>
-        ///    Gets the data as a byte array given size
+        ///    Gets the data as a byte array given size. Data is treated as an unsigned big-endian number:
+        ///    leading zeros are removed and the result is left-padded with zeros.
         /// </summary>
         public byte[] ToByteArray(int size)
         {
-            return ToBytesPadded(new BigInteger(_data), size);
+            var data = GetSignificantBytes();
+
+            if (data.Length > size)
+            {
+                throw new ArgumentException("Input is too large to put in byte array of size " + size);
+            }
+
+            var result = new byte[size];
+
+            data.CopyTo(result.AsSpan(size - data.Length));
+
+            return result;
         }
 
         /// <summary>
@@ -70,26 +120,23 @@ public string ToHexString(bool withPrefix)
         /// </summary>
         public string ToHexString(bool withPrefix, int size)
         {
-            var result = Hex.ToHexString(_data);
-            var length = result.Length;
-            if (length < size)
-            {
-                var sb = new StringBuilder();
-                for (var i = 0; i < size - length; i++)
-                {
-                    sb.Append('0');
-                }
-                result = sb.Append(result).ToString();
-            }
+            var prefixLength = withPrefix ? HexPrefix.Length : 0;
+            var hexLength = _data.Length * 2;
+            var paddingLength = Math.Max(size - hexLength, 0);
+            var length = prefixLength + paddingLength + hexLength;
+            Span<char> chars = length <= MaxStackAllocatedChars ? stackalloc char[length] : new char[length];
 
             if (withPrefix)
             {
-                return "0x" + result;
-            }
-            else
-            {
-                return result;
+                chars[0] = HexPrefix[0];
+                chars[1] = HexPrefix[1];
             }
+
+            chars.Slice(prefixLength, paddingLength).Fill('0');
+
+            HexConverter.Encode(_data, chars.Slice(prefixLength + paddingLength));
+
+            return chars.ToString();
         }
         
         public override bool Equals(object obj)
@@ -101,7 +148,7 @@ public override bool Equals(object obj)
             
             if (obj is Bytes bytes)
             {
-                return bytes._data.SequenceEqual(_data);
+                return bytes._data.AsSpan().SequenceEqual(_data.AsSpan());
             }
             
             return false;
@@ -109,7 +156,24 @@ public override bool Equals(object obj)
 
         public override int GetHashCode()
         {
-            return this.ToHexString(true).GetHashCode();
+            var data = _data.AsSpan();
+            var words = MemoryMarshal.Cast<byte, ulong>(data);
+            var hash = (ulong) data.Length;
+
+            unchecked
+            {
+                foreach (var word in words)
+                {
+                    hash = (hash ^ word) * 0x100000001b3UL;
+                }
+
+                for (var i = words.Length * sizeof(ulong); i < data.Length; i++)
+                {
+                    hash = (hash ^ data[i]) * 0x100000001b3UL;
+                }
+
+                return (int) hash ^ (int) (hash >> 32);
+            }
         }
 
         public override string ToString()
@@ -117,11 +181,22 @@ public override string ToString()
             return ToHexString(true, _data.Length);
         }
 
-        private bool IsValidHex(string value)
+        private static bool IsValidHex(ReadOnlySpan<char> value)
         {
-            var v = CleanHexPrefix(value);
-            
-            return Regex.IsMatch(v, "^[0-9a-fA-F]+$");
+            if (value.Length == 0)
+            {
+                return false;
+            }
+
+            foreach (var c in value)
+            {
+                if (HexConverter.GetDigitValue(c, true) < 0)
+                {
+                    return false;
+                }
+            }
+
+            return true;
         }
 
         public static string CleanHexPrefix(string input)
@@ -134,37 +209,22 @@ public static bool ContainsHexPrefix(string input)
             return input.Length> 1 && input[0] == '0' && input[1] == 'x';
         }
         
-        /// <summary>
-        ///    Adds the pad bytes to the passed in block, returning the number of bytes added 
-        /// </summary>
-        private static byte[] ToBytesPadded(BigInteger value, int length)
+        private static ReadOnlySpan<char> CleanHexPrefix(ReadOnlySpan<char> input)
         {
-            var result = new byte[length];
-            var bytes = value.ToByteArray();
+            return input.Length > 1 && input[0] == '0' && input[1] == 'x' ? input.Slice(2) : input;
+        }
 
-            int bytesLength;
-            int srcOffset;
-            if (bytes[0] == 0)
-            {
-                bytesLength = bytes.Length - 1;
-                srcOffset = 1;
-            }
-            else
-            {
-                bytesLength = bytes.Length;
-                srcOffset = 0;
-            }
+        private ReadOnlySpan<byte> GetSignificantBytes()
+        {
+            var data = _data.AsSpan();
+            var start = 0;
 
-            if (bytesLength > length)
+            while (start < data.Length && data[start] == 0)
             {
-                throw new ArgumentException("Input is too large to put in byte array of size " + length);
+                start++;
             }
 
-            var destOffset = length - bytesLength;
-            
-            Array.Copy(bytes, srcOffset, result, destOffset, bytesLength);
-            
-            return result;
+            return data.Slice(start);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,253 @@
+using System;
+using System.Buffers.Binary;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Data
+{
+    /// <summary>
+    ///    Compact immutable address representation for large address sets and dictionaries. The 20-byte body
+    ///    is stored inline together with the prefix tag, so equality and hashing do not allocate.
+    ///    Default value is not a valid address.
+    /// </summary>
+    [PublicAPI]
+    public readonly struct CompactAddress : IEquatable<CompactAddress>
+    {
+        public const int BodySize = 20;
+        public const int Length = 2 + 2 * BodySize;
+
+        private const byte EoaTag = 1;
+        private const byte ContractTag = 2;
+
+        private static readonly AddressPrefix EoaPrefix = new AddressPrefix(AddressPrefix.Eoa);
+        private static readonly AddressPrefix ContractPrefix = new AddressPrefix(AddressPrefix.Contract);
+
+        private readonly ulong _body0;
+        private readonly ulong _body1;
+        private readonly uint _body2;
+        private readonly byte _prefixTag;
+
+        private CompactAddress(byte prefixTag, ReadOnlySpan<byte> body)
+        {
+            _prefixTag = prefixTag;
+            _body0 = BinaryPrimitives.ReadUInt64BigEndian(body);
+            _body1 = BinaryPrimitives.ReadUInt64BigEndian(body.Slice(8));
+            _body2 = BinaryPrimitives.ReadUInt32BigEndian(body.Slice(16));
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when address is malformed</exception>
+        public static CompactAddress FromAddress(Address address)
+        {
+            if (address == null)
+            {
+                throw new ArgumentNullException(nameof(address));
+            }
+
+            if (address.IsMalformed())
+            {
+                throw new ArgumentException("Malformed address can not be converted", nameof(address));
+            }
+
+            return new CompactAddress(GetPrefixTag(address.GetPrefix().GetValue()), address.GetBodySpan());
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when address is not valid</exception>
+        public static CompactAddress Parse(string address)
+        {
+            if (address == null)
+            {
+                throw new ArgumentNullException(nameof(address));
+            }
+
+            if (!TryParse(address.AsSpan(), out var result))
+            {
+                throw new ArgumentException("Invalid address", nameof(address));
+            }
+
+            return result;
+        }
+
+        /// <summary>
+        ///    Parses hx or cx prefixed address with lower-case hex body
+        /// </summary>
+        public static bool TryParse(ReadOnlySpan<char> address, out CompactAddress result)
+        {
+            result = default;
+
+            if (address.Length != Length)
+            {
+                return false;
+            }
+
+            byte prefixTag;
+
+            if (IsPrefix(address, AddressPrefix.Eoa))
+            {
+                prefixTag = EoaTag;
+            }
+            else if (IsPrefix(address, AddressPrefix.Contract))
+            {
+                prefixTag = ContractTag;
+            }
+            else
+            {
+                return false;
+            }
+
+            Span<byte> body = stackalloc byte[BodySize];
+
+            if (!HexConverter.TryDecode(address.Slice(2), body, false))
+            {
+                return false;
+            }
+
+            result = new CompactAddress(prefixTag, body);
+
+            return true;
+        }
+
+        /// <exception cref="InvalidOperationException">Is thrown in a case when address is the default value</exception>
+        public Address ToAddress()
+        {
+            var prefix = GetPrefix();
+
+            if (prefix == null)
+            {
+                throw new InvalidOperationException("Default address value can not be converted");
+            }
+
+            var body = new byte[BodySize];
+
+            WriteBody(body);
+
+            return new Address(prefix, body);
+        }
+
+        public AddressPrefix GetPrefix()
+        {
+            switch (_prefixTag)
+            {
+                case EoaTag:
+                    return EoaPrefix;
+                case ContractTag:
+                    return ContractPrefix;
+                default:
+                    return null;
+            }
+        }
+
+        public bool IsContract()
+        {
+            return _prefixTag == ContractTag;
+        }
+
+        /// <summary>
+        ///    Writes the 20-byte body into the destination
+        /// </summary>
+        public void WriteBody(Span<byte> destination)
+        {
+            BinaryPrimitives.WriteUInt64BigEndian(destination, _body0);
+            BinaryPrimitives.WriteUInt64BigEndian(destination.Slice(8), _body1);
+            BinaryPrimitives.WriteUInt32BigEndian(destination.Slice(16), _body2);
+        }
+
+        /// <summary>
+        ///    Formats the address into the destination, which should be at least Length chars long
+        /// </summary>
+        public bool TryFormat(Span<char> destination, out int charsWritten)
+        {
+            var prefix = GetPrefix();
+
+            if (prefix == null || destination.Length < Length)
+            {
+                charsWritten = 0;
+
+                return false;
+            }
+
+            Span<byte> body = stackalloc byte[BodySize];
+
+            WriteBody(body);
+
+            destination[0] = prefix.GetValue()[0];
+            destination[1] = prefix.GetValue()[1];
+
+            HexConverter.Encode(body, destination.Slice(2));
+
+            charsWritten = Length;
+
+            return true;
+        }
+
+        public override string ToString()
+        {
+            Span<char> chars = stackalloc char[Length];
+
+            return TryFormat(chars, out var charsWritten)
+                ? chars.Slice(0, charsWritten).ToString()
+                : string.Empty;
+        }
+
+        public bool Equals(CompactAddress other)
+        {
+            return _body0 == other._body0
+                && _body1 == other._body1
+                && _body2 == other._body2
+                && _prefixTag == other._prefixTag;
+        }
+
+        public override bool Equals(object obj)
+        {
+            return obj is CompactAddress other && Equals(other);
+        }
+
+        public override int GetHashCode()
+        {
+            // Address bodies are hash outputs, so folding the words keeps them uniformly distributed
+            unchecked
+            {
+                var hash = _body0 ^ (_body1 * 31) ^ ((ulong) _body2 << 16) ^ _prefixTag;
+
+                return (int) hash ^ (int) (hash >> 32);
+            }
+        }
+
+        public static bool operator ==(CompactAddress a, CompactAddress b)
+        {
+            return a.Equals(b);
+        }
+
+        public static bool operator !=(CompactAddress a, CompactAddress b)
+        {
+            return !a.Equals(b);
+        }
+
+        public static explicit operator CompactAddress(Address address)
+        {
+            return FromAddress(address);
+        }
+
+        public static explicit operator Address(CompactAddress address)
+        {
+            return address.ToAddress();
+        }
+
+        private static byte GetPrefixTag(string prefix)
+        {
+            switch (prefix)
+            {
+                case AddressPrefix.Eoa:
+                    return EoaTag;
+                case AddressPrefix.Contract:
+                    return ContractTag;
+                default:
+                    throw new ArgumentException($"Unknown address prefix {prefix}", nameof(prefix));
+            }
+        }
+
+        private static bool IsPrefix(ReadOnlySpan<char> address, string prefix)
+        {
+            return char.ToLowerInvariant(address[0]) == prefix[0]
+                && char.ToLowerInvariant(address[1]) == prefix[1];
+        }
+    }
+}
@@ -0,0 +1,202 @@
+using System;
+using System.Buffers.Binary;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Data
+{
+    /// <summary>
+    ///    Immutable 32-byte hash of a block or a transaction. The hash is stored inline, so equality, ordering
+    ///    and hashing do not allocate. Text form is the 0x prefixed lower-case hex.
+    /// </summary>
+    [PublicAPI]
+    public readonly struct Hash32 : IEquatable<Hash32>, IComparable<Hash32>
+    {
+        public const int Size = 32;
+
+        private const int HexLength = 2 * Size;
+
+        private readonly ulong _part0;
+        private readonly ulong _part1;
+        private readonly ulong _part2;
+        private readonly ulong _part3;
+
+        /// <exception cref="ArgumentException">Is thrown in a case when hash is not 32 bytes long</exception>
+        public Hash32(ReadOnlySpan<byte> hash)
+        {
+            if (hash.Length != Size)
+            {
+                throw new ArgumentException($"Hash should be {Size} bytes long", nameof(hash));
+            }
+
+            _part0 = BinaryPrimitives.ReadUInt64BigEndian(hash);
+            _part1 = BinaryPrimitives.ReadUInt64BigEndian(hash.Slice(8));
+            _part2 = BinaryPrimitives.ReadUInt64BigEndian(hash.Slice(16));
+            _part3 = BinaryPrimitives.ReadUInt64BigEndian(hash.Slice(24));
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when hash is not 32 bytes long</exception>
+        public static Hash32 FromBytes(Bytes hash)
+        {
+            if (hash == null)
+            {
+                throw new ArgumentNullException(nameof(hash));
+            }
+
+            return new Hash32(hash.ToByteArray());
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when value is not a 32-byte hex string</exception>
+        public static Hash32 Parse(string hash)
+        {
+            if (hash == null)
+            {
+                throw new ArgumentNullException(nameof(hash));
+            }
+
+            if (!TryParse(hash.AsSpan(), out var result))
+            {
+                throw new ArgumentException("The value is not 32-byte hex string.", nameof(hash));
+            }
+
+            return result;
+        }
+
+        /// <summary>
+        ///    Parses 64 hex digits with optional 0x prefix
+        /// </summary>
+        public static bool TryParse(ReadOnlySpan<char> hash, out Hash32 result)
+        {
+            if (hash.Length == HexLength + 2 && hash[0] == '0' && hash[1] == 'x')
+            {
+                hash = hash.Slice(2);
+            }
+
+            Span<byte> bytes = stackalloc byte[Size];
+
+            if (!HexConverter.TryDecode(hash, bytes, true))
+            {
+                result = default;
+
+                return false;
+            }
+
+            result = new Hash32(bytes);
+
+            return true;
+        }
+
+        public Bytes ToBytes()
+        {
+            var bytes = new byte[Size];
+
+            WriteTo(bytes);
+
+            return new Bytes(bytes);
+        }
+
+        /// <summary>
+        ///    Writes the hash into the destination, which should be at least Size bytes long
+        /// </summary>
+        public void WriteTo(Span<byte> destination)
+        {
+            BinaryPrimitives.WriteUInt64BigEndian(destination, _part0);
+            BinaryPrimitives.WriteUInt64BigEndian(destination.Slice(8), _part1);
+            BinaryPrimitives.WriteUInt64BigEndian(destination.Slice(16), _part2);
+            BinaryPrimitives.WriteUInt64BigEndian(destination.Slice(24), _part3);
+        }
+
+        /// <summary>
+        ///    Formats the hash as lower-case hex into the destination
+        /// </summary>
+        public bool TryFormat(Span<char> destination, out int charsWritten, bool withPrefix)
+        {
+            var length = withPrefix ? HexLength + 2 : HexLength;
+
+            if (destination.Length < length)
+            {
+                charsWritten = 0;
+
+                return false;
+            }
+
+            if (withPrefix)
+            {
+                destination[0] = '0';
+                destination[1] = 'x';
+                destination = destination.Slice(2);
+            }
+
+            Span<byte> bytes = stackalloc byte[Size];
+
+            WriteTo(bytes);
+
+            HexConverter.Encode(bytes, destination);
+
+            charsWritten = length;
+
+            return true;
+        }
+
+        public override string ToString()
+        {
+            Span<char> chars = stackalloc char[HexLength + 2];
+
+            TryFormat(chars, out _, true);
+
+            return chars.ToString();
+        }
+
+        public bool Equals(Hash32 other)
+        {
+            return _part0 == other._part0
+                && _part1 == other._part1
+                && _part2 == other._part2
+                && _part3 == other._part3;
+        }
+
+        public override bool Equals(object obj)
+        {
+            return obj is Hash32 other && Equals(other);
+        }
+
+        public override int GetHashCode()
+        {
+            var hash = _part0 ^ _part1 ^ _part2 ^ _part3;
+
+            return (int) hash ^ (int) (hash >> 32);
+        }
+
+        /// <summary>
+        ///    Compares hashes in the lexicographical order of their bytes
+        /// </summary>
+        public int CompareTo(Hash32 other)
+        {
+            if (_part0 != other._part0)
+            {
+                return _part0 < other._part0 ? -1 : 1;
+            }
+
+            if (_part1 != other._part1)
+            {
+                return _part1 < other._part1 ? -1 : 1;
+            }
+
+            if (_part2 != other._part2)
+            {
+                return _part2 < other._part2 ? -1 : 1;
+            }
+
+            return _part3.CompareTo(other._part3);
+        }
+
+        public static bool operator ==(Hash32 a, Hash32 b)
+        {
+            return a.Equals(b);
+        }
+
+        public static bool operator !=(Hash32 a, Hash32 b)
+        {
+            return !a.Equals(b);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+using System;
+
+namespace Lykke.Icon.Sdk.Data
+{
+    /// <summary>
+    ///    Table-driven hex encoding and decoding over spans
+    /// </summary>
+    internal static class HexConverter
+    {
+        private const string LowerCaseDigits = "0123456789abcdef";
+
+        private static readonly sbyte[] DigitValues = CreateDigitValues();
+
+        /// <summary>
+        ///    Decodes even-length hex into the destination, which should be exactly half as long as the hex
+        /// </summary>
+        public static bool TryDecode(ReadOnlySpan<char> hex, Span<byte> destination, bool allowUpperCase)
+        {
+            if (hex.Length != destination.Length * 2)
+            {
+                return false;
+            }
+
+            for (var i = 0; i < destination.Length; i++)
+            {
+                var high = GetDigitValue(hex[2 * i], allowUpperCase);
+                var low = GetDigitValue(hex[2 * i + 1], allowUpperCase);
+
+                if ((high | low) < 0)
+                {
+                    return false;
+                }
+
+                destination[i] = (byte) ((high << 4) | low);
+            }
+
+            return true;
+        }
+
+        /// <summary>
+        ///    Encodes bytes as lower-case hex into the destination, which should be twice as long as the bytes
+        /// </summary>
+        public static void Encode(ReadOnlySpan<byte> bytes, Span<char> destination)
+        {
+            for (var i = 0; i < bytes.Length; i++)
+            {
+                var value = bytes[i];
+
+                destination[2 * i] = LowerCaseDigits[value >> 4];
+                destination[2 * i + 1] = LowerCaseDigits[value & 0xF];
+            }
+        }
+
+        public static int GetDigitValue(char c, bool allowUpperCase)
+        {
+            if (c >= DigitValues.Length || !allowUpperCase && c >= 'A' && c <= 'F')
+            {
+                return -1;
+            }
+
+            return DigitValues[c];
+        }
+
+        private static sbyte[] CreateDigitValues()
+        {
+            var values = new sbyte[128];
+
+            for (var i = 0; i < values.Length; i++)
+            {
+                values[i] = -1;
+            }
+
+            for (var i = 0; i < 10; i++)
+            {
+                values['0' + i] = (sbyte) i;
+            }
+
+            for (var i = 0; i < 6; i++)
+            {
+                values['a' + i] = (sbyte) (10 + i);
+                values['A' + i] = (sbyte) (10 + i);
+            }
+
+            return values;
+        }
+    }
+}
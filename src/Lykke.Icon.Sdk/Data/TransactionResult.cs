@@ -1,3 +1,4 @@
+using System;
 using System.Collections.Generic;
 using System.Numerics;
 using JetBrains.Annotations;
@@ -52,6 +53,14 @@ public Bytes GetTxHash()
             
             return item?.ToBytes();
         }
+
+        /// <summary>
+        ///    Gets the transaction hash without allocating Bytes. Returns false, if the hash is missing or malformed.
+        /// </summary>
+        public bool TryGetTxHash(out Hash32 hash)
+        {
+            return TryGetHash32("txHash", out hash);
+        }
         
         public BigInteger GetTxIndex()
         {
@@ -74,6 +83,14 @@ public Bytes GetBlockHash()
             return item?.ToBytes();
         }
 
+        /// <summary>
+        ///    Gets the block hash without allocating Bytes. Returns false, if the hash is missing or malformed.
+        /// </summary>
+        public bool TryGetBlockHash(out Hash32 hash)
+        {
+            return TryGetHash32("blockHash", out hash);
+        }
+
         public BigInteger GetCumulativeStepUsed()
         {
             var item = _properties.GetItem("cumulativeStepUsed");
@@ -168,6 +185,20 @@ public override string ToString()
             return "TransactionResult{properties=" + _properties + '}';
         }
 
+        private bool TryGetHash32(string key, out Hash32 hash)
+        {
+            var value = _properties.GetItem(key)?.ToString();
+
+            if (value == null)
+            {
+                hash = default;
+
+                return false;
+            }
+
+            return Hash32.TryParse(value.AsSpan(), out hash);
+        }
+
         [PublicAPI]
         public class EventLog
         {
@@ -1,7 +1,10 @@
+using System;
 using System.Collections.Generic;
 using System.Numerics;
+using System.Threading;
 using System.Threading.Tasks;
 using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
 
 namespace Lykke.Icon.Sdk
 {
@@ -24,6 +27,17 @@ public interface IIconService
         ///    Get a block matching the block hash
         /// </summary>
         Task<Block> GetBlock(Bytes hash);
+
+        /// <summary>
+        ///    Get a block matching the block hash
+        /// </summary>
+        Task<Block> GetBlock(Hash32 hash);
+
+        /// <summary>
+        ///    Get blocks in the height range [from, to]. Up to maxConcurrency blocks are requested
+        ///    ahead of the consumer, blocks are yielded strictly in the height order.
+        /// </summary>
+        IAsyncEnumerable<Block> GetBlocks(BigInteger from, BigInteger to, int maxConcurrency, CancellationToken cancellationToken = default);
         
         /// <summary>
         ///    Calls a SCORE API for reading
@@ -49,11 +63,37 @@ public interface IIconService
         ///    Get a transaction matching the given transaction hash
         /// </summary>
         Task<ConfirmedTransaction> GetTransaction(Bytes hash);
+
+        /// <summary>
+        ///    Get a transaction matching the given transaction hash
+        /// </summary>
+        Task<ConfirmedTransaction> GetTransaction(Hash32 hash);
         
         /// <summary>
         ///    Get the result of a transaction by transaction hash
         /// </summary>
         Task<TransactionResult> GetTransactionResult(Bytes hash);
+
+        /// <summary>
+        ///    Get the result of a transaction by transaction hash
+        /// </summary>
+        Task<TransactionResult> GetTransactionResult(Hash32 hash);
+
+        /// <summary>
+        ///    Get transactions matching the given transaction hashes using a single batch request
+        /// </summary>
+        Task<IReadOnlyList<BatchResult<ConfirmedTransaction>>> GetTransactions(IEnumerable<Bytes> hashes);
+
+        /// <summary>
+        ///    Get the results of transactions by transaction hashes using a single batch request
+        /// </summary>
+        Task<IReadOnlyList<BatchResult<TransactionResult>>> GetTransactionResults(IEnumerable<Bytes> hashes);
+
+        /// <summary>
+        ///    Waits until the transaction is executed and returns its result. Pending transactions of all
+        ///    waiters are polled together once per block.
+        /// </summary>
+        Task<TransactionResult> WaitForTransactionResult(Bytes hash, TimeSpan timeout, CancellationToken cancellationToken = default);
         
         /// <summary>
         ///    Sends a transaction that changes the states of account
@@ -1,3 +1,4 @@
+using System.Collections.Generic;
 using System.Threading.Tasks;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
 
@@ -9,5 +10,11 @@ public interface IProvider
         ///    Sends request
         /// </summary>
         Task<T> SendRequestAsync<T>(Request request, IRpcConverter<T> converter);
+
+        /// <summary>
+        ///    Sends requests as a single JSON-RPC batch. Results are returned in the order of requests,
+        ///    errors are reported per request.
+        /// </summary>
+        Task<IReadOnlyList<BatchResult<T>>> SendBatchRequestAsync<T>(IReadOnlyList<Request> requests, IRpcConverter<T> converter);
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 using System;
 using System.Collections.Generic;
 using System.Numerics;
+using System.Runtime.CompilerServices;
+using System.Threading;
 using System.Threading.Tasks;
 using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Caching;
 using Lykke.Icon.Sdk.Crypto;
 using Lykke.Icon.Sdk.Data;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
@@ -16,6 +19,9 @@ public class IconService : IIconService
         private readonly List<IRpcConverterFactory> _converterFactories;
         private readonly Dictionary<Type, object> _converterMap;
         private readonly IProvider _provider;
+        private readonly IRequestIdGenerator _requestIdGenerator;
+        private readonly BlockCache _blockCache;
+        private readonly TransactionConfirmationTracker _confirmationTracker;
 
         
         /// <summary>
@@ -25,10 +31,28 @@ public class IconService : IIconService
         ///    The worker that transporting requests
         /// </param>
         public IconService(IProvider provider)
+            : this(provider, new IconServiceOptions())
+        {
+            
+        }
+
+        /// <summary>
+        ///    Creates IconService instance 
+        /// </summary>
+        /// <param name="provider">
+        ///    The worker that transporting requests
+        /// </param>
+        /// <param name="options">
+        ///    Optional settings of the service
+        /// </param>
+        public IconService(IProvider provider, IconServiceOptions options)
         {
             _converterFactories = new List<IRpcConverterFactory>(10);
             _converterMap = new Dictionary<Type, object>();
             _provider = provider;
+            _requestIdGenerator = options.RequestIdGenerator ?? new SequentialRequestIdGenerator();
+            _blockCache = options.BlockCache;
+            _confirmationTracker = options.ConfirmationTracker ?? new TransactionConfirmationTracker(this);
             
             AddConverterFactory(Converters.BigInteger);
             AddConverterFactory(Converters.Boolean);
@@ -60,12 +84,12 @@ public void AddConverterFactory<T>(IRpcConverterFactory factory)
         /// <inheritdoc />
         public Task<BigInteger> GetBalance(Address address)
         {
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
                 .Put("address", new RpcValue(address))
                 .Build();
             
-            var request = new Request(requestId, "icx_getBalance", requestParams);
+            var request = new Request(requestId, RpcMethods.GetBalance, requestParams);
             
             return _provider.SendRequestAsync(request, FindConverter<BigInteger>());
         }
@@ -73,35 +97,95 @@ public Task<BigInteger> GetBalance(Address address)
         /// <inheritdoc />
         public Task<Block> GetBlock(BigInteger height)
         {
-            var requestId = GetCurrentUnixTime();
+            if (_blockCache != null && _blockCache.TryGet(height, out var block))
+            {
+                return Task.FromResult(block);
+            }
+            
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
                 .Put("height", new RpcValue(height))
                 .Build();
             
-            var request = new Request(requestId, "icx_getBlockByHeight", requestParams);
+            var request = new Request(requestId, RpcMethods.GetBlockByHeight, requestParams);
             
-            return _provider.SendRequestAsync(request, FindConverter<Block>());
+            return SendBlockRequestAsync(request);
         }
         
         /// <inheritdoc />
         public Task<Block> GetBlock(Bytes hash)
         {
-            var requestId = GetCurrentUnixTime();
+            if (_blockCache != null && _blockCache.TryGet(hash, out var block))
+            {
+                return Task.FromResult(block);
+            }
+            
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
                 .Put("hash", new RpcValue(hash))
                 .Build();
             
-            var request = new Request(requestId, "icx_getBlockByHash", requestParams);
+            var request = new Request(requestId, RpcMethods.GetBlockByHash, requestParams);
             
-            return _provider.SendRequestAsync(request, FindConverter<Block>());
+            return SendBlockRequestAsync(request);
+        }
+
+        /// <inheritdoc />
+        public Task<Block> GetBlock(Hash32 hash)
+        {
+            return GetBlock(hash.ToBytes());
+        }
+        
+        /// <inheritdoc />
+        public async IAsyncEnumerable<Block> GetBlocks(BigInteger from, BigInteger to, int maxConcurrency,
+            [EnumeratorCancellation] CancellationToken cancellationToken = default)
+        {
+            if (from > to)
+            {
+                throw new ArgumentException("Range start should not be greater than range end", nameof(from));
+            }
+
+            if (maxConcurrency < 1)
+            {
+                throw new ArgumentException("Max concurrency should be positive", nameof(maxConcurrency));
+            }
+
+            var window = new Queue<Task<Block>>(maxConcurrency);
+            var nextHeight = from;
+
+            try
+            {
+                while (nextHeight <= to || window.Count > 0)
+                {
+                    // Window is refilled only when the consumer asks for the next block
+                    while (window.Count < maxConcurrency && nextHeight <= to)
+                    {
+                        window.Enqueue(GetBlock(nextHeight));
+                        
+                        nextHeight++;
+                    }
+
+                    cancellationToken.ThrowIfCancellationRequested();
+
+                    yield return await window.Dequeue();
+                }
+            }
+            finally
+            {
+                // Requests which are left behind should not produce unobserved exceptions
+                foreach (var task in window)
+                {
+                    _ = task.ContinueWith(x => x.Exception, TaskContinuationOptions.OnlyOnFaulted);
+                }
+            }
         }
         
         /// <inheritdoc />
         public Task<T> CallAsync<T>(Call<T> call)
         {
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             
-            var request = new Request(requestId, "icx_call", call.GetProperties());
+            var request = new Request(requestId, RpcMethods.Call, call.GetProperties());
             
             return _provider.SendRequestAsync(request, FindConverter<T>());
         }
@@ -109,9 +193,9 @@ public Task<T> CallAsync<T>(Call<T> call)
         /// <inheritdoc />
         public Task<Block> GetLastBlock()
         {
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             
-            var request = new Request(requestId, "icx_getLastBlock", null);
+            var request = new Request(requestId, RpcMethods.GetLastBlock, null);
             
             return _provider.SendRequestAsync(request, FindConverter<Block>());
         }
@@ -124,12 +208,12 @@ public Task<List<ScoreApi>> GetScoreApi(Address scoreAddress)
                 throw new ArgumentException("Only the contract address can be called.");
             }
             
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
                 .Put("address", new RpcValue(scoreAddress))
                 .Build();
             
-            var request = new Request(requestId, "icx_getScoreApi", requestParams);
+            var request = new Request(requestId, RpcMethods.GetScoreApi, requestParams);
             
             return _provider.SendRequestAsync(request, FindConverter<List<ScoreApi>>());
         }
@@ -137,9 +221,9 @@ public Task<List<ScoreApi>> GetScoreApi(Address scoreAddress)
         /// <inheritdoc />
         public Task<BigInteger> GetTotalSupply()
         {
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             
-            var request = new Request(requestId, "icx_getTotalSupply", null);
+            var request = new Request(requestId, RpcMethods.GetTotalSupply, null);
             
             return _provider.SendRequestAsync(request, FindConverter<BigInteger>());
         }
@@ -147,37 +231,111 @@ public Task<BigInteger> GetTotalSupply()
         /// <inheritdoc />
         public Task<ConfirmedTransaction> GetTransaction(Bytes hash)
         {
-            var requestId = GetCurrentUnixTime();
+            return GetTransaction(new RpcValue(hash));
+        }
+
+        /// <inheritdoc />
+        public Task<ConfirmedTransaction> GetTransaction(Hash32 hash)
+        {
+            return GetTransaction(new RpcValue(hash));
+        }
+
+        /// <inheritdoc />
+        public Task<TransactionResult> GetTransactionResult(Bytes hash)
+        {
+            return GetTransactionResult(new RpcValue(hash));
+        }
+
+        /// <inheritdoc />
+        public Task<TransactionResult> GetTransactionResult(Hash32 hash)
+        {
+            return GetTransactionResult(new RpcValue(hash));
+        }
+
+        /// <inheritdoc />
+        public Task<IReadOnlyList<BatchResult<ConfirmedTransaction>>> GetTransactions(IEnumerable<Bytes> hashes)
+        {
+            var requests = CreateBatchRequests(RpcMethods.GetTransactionByHash, "txHash", hashes);
+
+            return _provider.SendBatchRequestAsync(requests, FindConverter<ConfirmedTransaction>());
+        }
+
+        /// <inheritdoc />
+        public Task<IReadOnlyList<BatchResult<TransactionResult>>> GetTransactionResults(IEnumerable<Bytes> hashes)
+        {
+            var requests = CreateBatchRequests(RpcMethods.GetTransactionResult, "txHash", hashes);
+
+            return _provider.SendBatchRequestAsync(requests, FindConverter<TransactionResult>());
+        }
+
+        /// <inheritdoc />
+        /// <exception cref="TimeoutException">Is thrown in a case when the transaction is not executed in time</exception>
+        public Task<TransactionResult> WaitForTransactionResult(Bytes hash, TimeSpan timeout, CancellationToken cancellationToken = default)
+        {
+            return _confirmationTracker.WaitForTransactionResult(hash, timeout, cancellationToken);
+        }
+
+        /// <inheritdoc />
+        public Task<Bytes> SendTransaction(SignedTransaction signedTransaction)
+        {
+            var requestId = _requestIdGenerator.NextId();
+            
+            var request = new Request(requestId, RpcMethods.SendTransaction, signedTransaction.GetProperties());
+            
+            return _provider.SendRequestAsync(request, FindConverter<Bytes>());
+        }
+
+        private async Task<Block> SendBlockRequestAsync(Request request)
+        {
+            var block = await _provider.SendRequestAsync(request, FindConverter<Block>());
+
+            if (_blockCache != null && block != null)
+            {
+                _blockCache.Add(block);
+            }
+
+            return block;
+        }
+
+        private Task<ConfirmedTransaction> GetTransaction(RpcValue hash)
+        {
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
-                    .Put("txHash", new RpcValue(hash))
+                    .Put("txHash", hash)
                     .Build();
             
-            var request = new Request(requestId, "icx_getTransactionByHash", requestParams);
+            var request = new Request(requestId, RpcMethods.GetTransactionByHash, requestParams);
             
             return _provider.SendRequestAsync(request, FindConverter<ConfirmedTransaction>());
         }
 
-        /// <inheritdoc />
-        public Task<TransactionResult> GetTransactionResult(Bytes hash)
+        private Task<TransactionResult> GetTransactionResult(RpcValue hash)
         {
-            var requestId = GetCurrentUnixTime();
+            var requestId = _requestIdGenerator.NextId();
             var requestParams = new RpcObject.Builder()
-                    .Put("txHash", new RpcValue(hash))
+                    .Put("txHash", hash)
                     .Build();
             
-            var request = new Request(requestId, "icx_getTransactionResult", requestParams);
+            var request = new Request(requestId, RpcMethods.GetTransactionResult, requestParams);
             
             return _provider.SendRequestAsync(request, FindConverter<TransactionResult>());
         }
 
-        /// <inheritdoc />
-        public Task<Bytes> SendTransaction(SignedTransaction signedTransaction)
+        private IReadOnlyList<Request> CreateBatchRequests(string method, string paramName, IEnumerable<Bytes> hashes)
         {
-            var requestId = GetCurrentUnixTime();
-            
-            var request = new Request(requestId, "icx_sendTransaction", signedTransaction.GetProperties());
-            
-            return _provider.SendRequestAsync(request, FindConverter<Bytes>());
+            var requests = new List<Request>();
+
+            foreach (var hash in hashes)
+            {
+                var requestId = _requestIdGenerator.NextId();
+                var requestParams = new RpcObject.Builder()
+                    .Put(paramName, new RpcValue(hash))
+                    .Build();
+
+                requests.Add(new Request(requestId, method, requestParams));
+            }
+
+            return requests;
         }
 
         private IRpcConverter<T> FindConverter<T>()
@@ -205,10 +363,5 @@ private IRpcConverter<T> FindConverter<T>()
 
             throw new ArgumentException("Could not locate response converter for:'" + converterType + "'");
         }
-        
-        private static long GetCurrentUnixTime()
-        {
-            return DateTimeOffset.UtcNow.ToUnixTimeSeconds();
-        }
     }
 }
@@ -0,0 +1,29 @@
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Caching;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Optional settings of IconService
+    /// </summary>
+    [PublicAPI]
+    public class IconServiceOptions
+    {
+        /// <summary>
+        ///    Generator of JSON-RPC request ids. SequentialRequestIdGenerator is used if not set.
+        /// </summary>
+        public IRequestIdGenerator RequestIdGenerator { get; set; }
+
+        /// <summary>
+        ///    Cache of blocks requested by height or hash. Blocks are not cached if not set.
+        /// </summary>
+        public BlockCache BlockCache { get; set; }
+
+        /// <summary>
+        ///    Tracker, which is used by WaitForTransactionResult. Set it to share one tracker between several services.
+        ///    Each service creates its own tracker if not set.
+        /// </summary>
+        public TransactionConfirmationTracker ConfirmationTracker { get; set; }
+    }
+}
@@ -12,11 +12,15 @@ public class KeyWallet : IWallet
     {
         private readonly Bytes _privateKey;
         private readonly Bytes _publicKey;
+        private readonly SigningKey _signingKey;
+        private readonly Address _address;
 
-        private KeyWallet(Bytes privateKey, Bytes publicKey)
+        private KeyWallet(Bytes privateKey)
         {
             _privateKey = privateKey;
-            _publicKey = publicKey;
+            _signingKey = new SigningKey(privateKey);
+            _publicKey = _signingKey.GetPublicKey();
+            _address = IconKeys.GetAddress(_publicKey);
         }
 
         /// <summary>
@@ -24,9 +28,7 @@ private KeyWallet(Bytes privateKey, Bytes publicKey)
         /// </summary>
         public static KeyWallet Load(Bytes privateKey)
         {
-            var publicKey = IconKeys.GetPublicKey(privateKey);
-
-            return new KeyWallet(privateKey, publicKey);
+            return new KeyWallet(privateKey);
         }
 
         /// <summary>
@@ -35,15 +37,14 @@ public static KeyWallet Load(Bytes privateKey)
         public static KeyWallet Create()
         {
             var privateKey = IconKeys.CreatePrivateKey();
-            var publicKey = IconKeys.GetPublicKey(privateKey);
 
-            return new KeyWallet(privateKey, publicKey);
+            return new KeyWallet(privateKey);
         }
 
         /// <inheritdoc />
         public Address GetAddress()
         {
-            return IconKeys.GetAddress(_publicKey);
+            return _address;
         }
 
         /// <summary>
@@ -67,10 +68,7 @@ public byte[] Sign(byte[] data)
         {
             TransactionBuilder.CheckArgument(data, "hash not found");
 
-            var signature = new EcdsaSignature(_privateKey);
-            var sig = signature.GenerateSignature(data);
-
-            return signature.RecoverableSerialize(sig, data);
+            return _signingKey.SignRecoverable(data);
         }
     }
 }
@@ -0,0 +1,80 @@
+using System;
+using System.Collections.Concurrent;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Loaded key wallets indexed by their addresses. Is thread-safe.
+    /// </summary>
+    [PublicAPI]
+    public class KeyWalletRegistry
+    {
+        private readonly ConcurrentDictionary<Address, KeyWallet> _wallets;
+
+        public KeyWalletRegistry()
+        {
+            _wallets = new ConcurrentDictionary<Address, KeyWallet>();
+        }
+
+        /// <summary>
+        ///    Loads the wallet from the private key and registers it. If a wallet with the same address
+        ///    is already registered, the registered one is returned.
+        /// </summary>
+        public KeyWallet Load(Bytes privateKey)
+        {
+            return Add(KeyWallet.Load(privateKey));
+        }
+
+        /// <summary>
+        ///    Registers the wallet. If a wallet with the same address is already registered,
+        ///    the registered one is returned.
+        /// </summary>
+        public KeyWallet Add(KeyWallet wallet)
+        {
+            if (wallet == null)
+            {
+                throw new ArgumentNullException(nameof(wallet));
+            }
+
+            return _wallets.GetOrAdd(wallet.GetAddress(), wallet);
+        }
+
+        public bool TryGetWallet(Address address, out KeyWallet wallet)
+        {
+            if (address == null)
+            {
+                throw new ArgumentNullException(nameof(address));
+            }
+
+            return _wallets.TryGetValue(address, out wallet);
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when wallet is not registered for the address</exception>
+        public KeyWallet GetWallet(Address address)
+        {
+            if (!TryGetWallet(address, out var wallet))
+            {
+                throw new ArgumentException($"Wallet is not registered for the address {address}", nameof(address));
+            }
+
+            return wallet;
+        }
+
+        public bool Remove(Address address)
+        {
+            if (address == null)
+            {
+                throw new ArgumentNullException(nameof(address));
+            }
+
+            return _wallets.TryRemove(address, out _);
+        }
+
+        public int GetCount()
+        {
+            return _wallets.Count;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 using System;
+using System.Collections.Generic;
 using System.Linq;
 using System.Numerics;
-using System.Text;
+using System.Threading.Tasks;
 using JetBrains.Annotations;
 using Lykke.Icon.Sdk.Crypto;
 using Lykke.Icon.Sdk.Data;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
-using Org.BouncyCastle.Crypto.Digests;
 using Org.BouncyCastle.Utilities.Encoders;
 
 namespace Lykke.Icon.Sdk
@@ -25,9 +25,9 @@ protected SignedTransaction(ITransaction transaction, RpcObject properties)
         }
 
         public SignedTransaction(ITransaction transaction, IWallet wallet)
+            : this(transaction, CreateProperties(transaction, wallet))
         {
-            _transaction = transaction;
-            _properties = CreateProperties(transaction, wallet);
+
         }
 
         /// <inheritdoc />
@@ -114,7 +114,57 @@ public static string Serialize(RpcObject properties)
             return TransactionSerializer.Serialize(properties);
         }
 
+        /// <summary>
+        ///    Signs the transactions in parallel. Results are returned in the order of transactions.
+        ///    The wallet should be thread-safe, KeyWallet is.
+        /// </summary>
+        public static IReadOnlyList<SignedTransaction> SignMany(IReadOnlyList<ITransaction> transactions, IWallet wallet, int degreeOfParallelism)
+        {
+            if (transactions == null)
+            {
+                throw new ArgumentNullException(nameof(transactions));
+            }
+
+            if (wallet == null)
+            {
+                throw new ArgumentNullException(nameof(wallet));
+            }
+
+            if (degreeOfParallelism < 1)
+            {
+                throw new ArgumentException("Degree of parallelism should be positive", nameof(degreeOfParallelism));
+            }
+
+            var signedTransactions = new SignedTransaction[transactions.Count];
+            var parallelOptions = new ParallelOptions { MaxDegreeOfParallelism = degreeOfParallelism };
+
+            // Serializer buffers, digests and signer state are kept per thread, so workers share nothing
+            Parallel.For
+            (
+                0,
+                transactions.Count,
+                parallelOptions,
+                i =>
+                {
+                    var transaction = transactions[i];
+
+                    signedTransactions[i] = new SignedTransaction(transaction, CreateProperties(transaction, wallet));
+                }
+            );
+
+            return signedTransactions;
+        }
+
         public static SignedTransaction Deserialize(string transactionSerialized)
+        {
+            return Deserialize(transactionSerialized, null);
+        }
+
+        /// <summary>
+        ///    Deserializes the transaction and verifies its signature. Signatures, which are found in the cache,
+        ///    are not verified again.
+        /// </summary>
+        public static SignedTransaction Deserialize(string transactionSerialized, VerifiedSignatureCache signatureCache)
         {
             var (transaction, rpcObject) = TransactionDeserializer.DeserializeToTransactionAndRpc(transactionSerialized);
             var signature = rpcObject.GetItem("signature");
@@ -125,7 +175,7 @@ public static SignedTransaction Deserialize(string transactionSerialized)
             var sender = transaction.GetFrom();
             var props = GetTransactionProperties(transaction);
             var transactionHash = GetTransactionHash(props);
-            if (!EcdsaSignature.VerifySignature(sender, sign, transactionHash))
+            if (!EcdsaSignature.VerifySignature(sender, sign, transactionHash, signatureCache))
                 throw new ArgumentException("Signature does not match", nameof(transactionSerialized));
 
             var signedTransaction = new SignedTransaction(transaction, rpcObject);
@@ -137,7 +187,8 @@ private static RpcObject CreateProperties(ITransaction transaction, IWallet wall
         {
             var builder = new RpcObject.Builder();
             var @object = GetTransactionProperties(transaction);
-            var signature = GetSignature(wallet, @object);
+            var transactionHash = GetTransactionHash(@object);
+            var signature = Base64.ToBase64String(wallet.Sign(transactionHash));
             
             foreach (var key in @object.GetKeys().OrderBy(x => x))
             {
@@ -159,10 +210,9 @@ public static string GetSignature(IWallet wallet, RpcObject properties)
 
         public static byte[] GetTransactionHash(RpcObject properties)
         {
-            var serialized = Serialize(properties);
-            var hash = Sha256(serialized);
+            var serialized = TransactionSerializer.SerializeToUtf8(properties);
 
-            return hash;
+            return Sha3Hasher.Hash(serialized.Buffer, 0, serialized.Length);
         }
 
         public static RpcObject GetTransactionProperties(ITransaction transaction)
@@ -204,17 +254,5 @@ private static void PutTransactionPropertyToBuilder(RpcObject.Builder builder, s
         {
             if (item != null) builder.Put(key, item);
         }
-        
-        private static byte[] Sha256(string data)
-        {
-            var input = Encoding.UTF8.GetBytes(data);
-            var digest = new Sha3Digest(256);
-            var output = new byte[digest.GetDigestSize()];
-            
-            digest.BlockUpdate(input, 0, input.Length);
-            digest.DoFinal(output, 0);
-
-            return output;
-        }
     }
 }
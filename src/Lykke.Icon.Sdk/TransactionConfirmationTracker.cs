@@ -0,0 +1,320 @@
+using System;
+using System.Collections.Concurrent;
+using System.Linq;
+using System.Numerics;
+using System.Threading;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Data;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Waits for results of many transactions at once. Pending transaction hashes of all waiters are
+    ///    checked with batch requests once per new block, so the number of requests does not grow
+    ///    with the number of waiters.
+    /// </summary>
+    [PublicAPI]
+    public class TransactionConfirmationTracker
+    {
+        private const double BlockIntervalSmoothingFactor = 0.2;
+        private const int TipBackoffSteps = 3;
+
+        private readonly IIconService _iconService;
+        private readonly TransactionConfirmationTrackerOptions _options;
+        private readonly ConcurrentDictionary<Bytes, PendingTransaction> _pendingTransactions;
+        private readonly object _pollingSync = new object();
+
+        private bool _isPolling;
+        private TimeSpan _blockInterval;
+        private BigInteger? _lastBlockHeight;
+        private DateTime _lastBlockObservedAt;
+
+        public TransactionConfirmationTracker(IIconService iconService)
+            : this(iconService, new TransactionConfirmationTrackerOptions())
+        {
+
+        }
+
+        public TransactionConfirmationTracker(IIconService iconService, TransactionConfirmationTrackerOptions options)
+        {
+            if (options.BlockInterval <= TimeSpan.Zero)
+            {
+                throw new ArgumentException("Block interval should be positive", nameof(options));
+            }
+
+            if (options.MaxBatchSize < 1)
+            {
+                throw new ArgumentException("Max batch size should be positive", nameof(options));
+            }
+
+            if (options.IsResultPending == null)
+            {
+                throw new ArgumentException("Pending result predicate should be specified", nameof(options));
+            }
+
+            _iconService = iconService;
+            _options = options;
+            _pendingTransactions = new ConcurrentDictionary<Bytes, PendingTransaction>();
+            _blockInterval = options.BlockInterval;
+        }
+
+        /// <summary>
+        ///    Observed average interval between blocks
+        /// </summary>
+        public TimeSpan GetBlockInterval()
+        {
+            lock (_pollingSync)
+            {
+                return _blockInterval;
+            }
+        }
+
+        /// <summary>
+        ///    Returns number of transactions, which are still polled
+        /// </summary>
+        public int GetPendingTransactionCount()
+        {
+            return _pendingTransactions.Count;
+        }
+
+        /// <summary>
+        ///    Waits until the transaction is executed and returns its result
+        /// </summary>
+        /// <exception cref="TimeoutException">Is thrown in a case when the transaction is not executed in time</exception>
+        /// <exception cref="RpcErrorException">Is thrown in a case when node returned an error, which does not mean a pending result</exception>
+        public Task<TransactionResult> WaitForTransactionResult(Bytes hash, TimeSpan timeout, CancellationToken cancellationToken = default)
+        {
+            if (hash == null)
+            {
+                throw new ArgumentNullException(nameof(hash));
+            }
+
+            var deadline = DateTime.UtcNow + timeout;
+            PendingTransaction pendingTransaction;
+
+            // Expired transactions are removed under the same lock, so the entry can not be lost in between
+            lock (_pollingSync)
+            {
+                pendingTransaction = _pendingTransactions.GetOrAdd(hash, x => new PendingTransaction());
+                pendingTransaction.ExtendDeadline(deadline);
+            }
+
+            EnsurePolling();
+
+            return WaitAsync(pendingTransaction.Result, timeout, cancellationToken);
+        }
+
+        private void EnsurePolling()
+        {
+            lock (_pollingSync)
+            {
+                if (_isPolling)
+                {
+                    return;
+                }
+
+                _isPolling = true;
+            }
+
+            Task.Run(() => PollAsync());
+        }
+
+        private async Task PollAsync()
+        {
+            var delay = GetDelayUntilNextBlock();
+            var tipBackoffStep = 0;
+
+            while (true)
+            {
+                await Task.Delay(delay);
+
+                lock (_pollingSync)
+                {
+                    RemoveExpiredTransactions();
+
+                    if (_pendingTransactions.IsEmpty)
+                    {
+                        _isPolling = false;
+
+                        return;
+                    }
+                }
+
+                try
+                {
+                    if (await ObserveNewBlockAsync())
+                    {
+                        await CheckPendingTransactionsAsync();
+
+                        tipBackoffStep = 0;
+                        delay = GetDelayUntilNextBlock();
+                    }
+                    else
+                    {
+                        delay = GetTipBackoffDelay(tipBackoffStep);
+                        tipBackoffStep = Math.Min(tipBackoffStep + 1, TipBackoffSteps);
+                    }
+                }
+                catch (Exception)
+                {
+                    // Node failure should not fail the waiters, they time out on their own
+                    delay = GetBlockInterval();
+                }
+            }
+        }
+
+        private async Task<bool> ObserveNewBlockAsync()
+        {
+            var lastBlock = await _iconService.GetLastBlock();
+            var height = lastBlock.GetHeight();
+            var now = DateTime.UtcNow;
+
+            lock (_pollingSync)
+            {
+                if (_lastBlockHeight == null)
+                {
+                    _lastBlockHeight = height;
+                    _lastBlockObservedAt = now;
+
+                    return true;
+                }
+
+                if (height <= _lastBlockHeight)
+                {
+                    return false;
+                }
+
+                var observedInterval = (now - _lastBlockObservedAt).TotalMilliseconds / (double) (height - _lastBlockHeight.Value);
+                var smoothedInterval = _blockInterval.TotalMilliseconds + BlockIntervalSmoothingFactor * (observedInterval - _blockInterval.TotalMilliseconds);
+
+                _blockInterval = TimeSpan.FromMilliseconds(smoothedInterval);
+                _lastBlockHeight = height;
+                _lastBlockObservedAt = now;
+
+                return true;
+            }
+        }
+
+        private async Task CheckPendingTransactionsAsync()
+        {
+            var hashes = _pendingTransactions.Keys.ToList();
+
+            for (var offset = 0; offset < hashes.Count; offset += _options.MaxBatchSize)
+            {
+                var batch = hashes.Skip(offset).Take(_options.MaxBatchSize).ToList();
+                var results = await _iconService.GetTransactionResults(batch);
+
+                for (var i = 0; i < batch.Count; i++)
+                {
+                    var result = results[i];
+
+                    if (result.IsSuccess)
+                    {
+                        Complete(batch[i], x => x.TrySetResult(result.Result));
+                    }
+                    else if (!_options.IsResultPending(result.Error))
+                    {
+                        Complete(batch[i], x => x.TrySetException(result.Error.ToException()));
+                    }
+                }
+            }
+        }
+
+        private void Complete(Bytes hash, Action<TaskCompletionSource<TransactionResult>> complete)
+        {
+            if (_pendingTransactions.TryRemove(hash, out var pendingTransaction))
+            {
+                complete(pendingTransaction.CompletionSource);
+            }
+        }
+
+        private void RemoveExpiredTransactions()
+        {
+            var now = DateTime.UtcNow;
+
+            foreach (var pendingTransaction in _pendingTransactions)
+            {
+                if (pendingTransaction.Value.IsExpired(now))
+                {
+                    _pendingTransactions.TryRemove(pendingTransaction.Key, out _);
+                }
+            }
+        }
+
+        /// <summary>
+        ///    Aims the next poll at the moment the next block is expected
+        /// </summary>
+        private TimeSpan GetDelayUntilNextBlock()
+        {
+            lock (_pollingSync)
+            {
+                if (_lastBlockHeight == null)
+                {
+                    return _blockInterval;
+                }
+
+                var delay = _lastBlockObservedAt + _blockInterval - DateTime.UtcNow;
+                var minDelay = TimeSpan.FromTicks(_blockInterval.Ticks / (1 << TipBackoffSteps));
+
+                return delay > minDelay ? delay : minDelay;
+            }
+        }
+
+        /// <summary>
+        ///    Next block is late, the tip is polled with exponentially growing delays up to the block interval
+        /// </summary>
+        private TimeSpan GetTipBackoffDelay(int step)
+        {
+            var blockInterval = GetBlockInterval();
+
+            return TimeSpan.FromTicks(blockInterval.Ticks / (1 << (TipBackoffSteps - step)));
+        }
+
+        private static async Task<TransactionResult> WaitAsync(Task<TransactionResult> result, TimeSpan timeout, CancellationToken cancellationToken)
+        {
+            using (var delayCancellation = CancellationTokenSource.CreateLinkedTokenSource(cancellationToken))
+            {
+                var delay = Task.Delay(timeout, delayCancellation.Token);
+
+                if (await Task.WhenAny(result, delay) != result)
+                {
+                    cancellationToken.ThrowIfCancellationRequested();
+
+                    throw new TimeoutException($"Transaction result has not been received in {timeout}");
+                }
+
+                delayCancellation.Cancel();
+
+                return await result;
+            }
+        }
+
+        private sealed class PendingTransaction
+        {
+            private long _deadlineTicks;
+
+            public PendingTransaction()
+            {
+                CompletionSource = new TaskCompletionSource<TransactionResult>(TaskCreationOptions.RunContinuationsAsynchronously);
+            }
+
+            public TaskCompletionSource<TransactionResult> CompletionSource { get; }
+
+            public Task<TransactionResult> Result => CompletionSource.Task;
+
+            /// <remarks>
+            ///    Is called under the polling lock only
+            /// </remarks>
+            public void ExtendDeadline(DateTime deadline)
+            {
+                _deadlineTicks = Math.Max(_deadlineTicks, deadline.Ticks);
+            }
+
+            public bool IsExpired(DateTime now)
+            {
+                return _deadlineTicks < now.Ticks;
+            }
+        }
+    }
+}
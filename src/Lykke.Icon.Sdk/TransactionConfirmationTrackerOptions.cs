@@ -0,0 +1,30 @@
+using System;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Optional settings of TransactionConfirmationTracker
+    /// </summary>
+    [PublicAPI]
+    public class TransactionConfirmationTrackerOptions
+    {
+        /// <summary>
+        ///    Initial estimate of the block interval. The estimate is refined as new blocks are observed.
+        /// </summary>
+        public TimeSpan BlockInterval { get; set; } = TimeSpan.FromSeconds(2);
+
+        /// <summary>
+        ///    Max number of transaction hashes in a single batch request
+        /// </summary>
+        public int MaxBatchSize { get; set; } = 100;
+
+        /// <summary>
+        ///    Decides if an error of icx_getTransactionResult means that the result can still appear, so the
+        ///    transaction is polled further until the waiter's deadline. Other errors fail the waiter at once.
+        ///    By default pending, executing and not found transactions of loopchain and goloop nodes are polled further.
+        /// </summary>
+        public Func<RpcError, bool> IsResultPending { get; set; } = x => x.IsTransactionPending() || x.IsTransactionNotFound();
+    }
+}
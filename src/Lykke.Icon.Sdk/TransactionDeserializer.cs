@@ -1,20 +1,22 @@
 using System;
-using System.Collections.Generic;
-using System.Text;
-using System.Text.RegularExpressions;
 using JetBrains.Annotations;
 using Lykke.Icon.Sdk.Data;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
 
 namespace Lykke.Icon.Sdk
 {
-    /// <remarks>
-    ///    Can't deserialize arrays params
-    /// </remarks>
+    /// <summary>
+    ///    Parses transactions in the transaction hash serialization format. The serialized string is read
+    ///    in a single pass, nested objects and arrays are parsed in place.
+    /// </summary>
     [PublicAPI]
     public static class TransactionDeserializer
     {
         private const string IcxSendtransactionMarker = "icx_sendTransaction.";
+        private const string NullValue = "\\0";
+
+        // Containers are parsed recursively, so the depth is limited to not overflow the stack on hostile input
+        private const int MaxNestingDepth = 64;
 
         public static ITransaction Deserialize(string serializedObject)
         {
@@ -32,115 +34,188 @@ public static (ITransaction, RpcObject) DeserializeToTransactionAndRpc(string se
             return (transactionData.Build(), rpcObject);
         }
 
+        /// <exception cref="ArgumentException">Is thrown in a case when serialized object is malformed</exception>
         public static RpcObject DeserializeToRpc(string serializedObject)
         {
-            var transactionMarker = serializedObject.Substring(0, IcxSendtransactionMarker.Length);
-
-            if (transactionMarker != IcxSendtransactionMarker)
+            if (!serializedObject.StartsWith(IcxSendtransactionMarker, StringComparison.Ordinal))
             {
                 throw new ArgumentException("Transaction should start with icx_sendTransaction marker.");
             }
 
-            var withoutMarker = serializedObject.Substring(IcxSendtransactionMarker.Length);
-            var rpcObject = DeserializeToRpcWithoutMarker(withoutMarker);
+            var input = serializedObject.AsSpan();
+            var position = IcxSendtransactionMarker.Length;
+            var rpcObject = ReadObjectItems(input, ref position, 0);
+
+            if (position != input.Length)
+            {
+                throw CreateUnexpectedCharException(input, position);
+            }
 
             return rpcObject;
         }
 
-
-        private static RpcObject DeserializeToRpcWithoutMarker(string serializedObject)
+        private static RpcObject ReadObjectItems(ReadOnlySpan<char> input, ref int position, int depth)
         {
             var rpcBuilder = new RpcObject.Builder();
-            var i = 0;
-            
-            while (serializedObject.Length > i)
+
+            if (IsEndOfContainer(input, position))
+            {
+                return rpcBuilder.Build();
+            }
+
+            while (true)
             {
-                var key = ReadKey(ref i, serializedObject);
-                var value = ReadValue(ref i, serializedObject);
-                
+                var key = ReadKey(input, ref position);
+                var value = ReadValue(input, ref position, depth);
+
                 if (value != null)
                 {
                     rpcBuilder.Put(key, value);
                 }
-            }
 
-            return rpcBuilder.Build();
+                if (position == input.Length || input[position] != '.')
+                {
+                    return rpcBuilder.Build();
+                }
+
+                position++;
+            }
         }
 
-        private static string ReadKey(ref int from, string serializedObject)
+        private static RpcArray ReadArrayItems(ReadOnlySpan<char> input, ref int position, int depth)
         {
+            var rpcBuilder = new RpcArray.Builder();
+
+            if (IsEndOfContainer(input, position))
+            {
+                return rpcBuilder.Build();
+            }
+
             while (true)
             {
-                var sb = new StringBuilder(10);
-                
-                while (from < serializedObject.Length && serializedObject[from] != '.')
+                rpcBuilder.Add(ReadValue(input, ref position, depth));
+
+                if (position == input.Length || input[position] != '.')
                 {
-                    sb.Append(serializedObject[from]);
-                    from++;
+                    return rpcBuilder.Build();
                 }
 
-                from++;
+                position++;
+            }
+        }
 
-                if (sb.Length == 0 && from < serializedObject.Length)
-                {
-                    continue;
-                }
+        private static string ReadKey(ReadOnlySpan<char> input, ref int position)
+        {
+            var keyLength = input.Slice(position).IndexOf('.');
 
-                return sb.ToString();
+            if (keyLength < 0)
+            {
+                throw new ArgumentException($"Value is missing for the key at position {position}");
             }
+
+            var key = input.Slice(position, keyLength).ToString();
+
+            position += keyLength + 1;
+
+            return key;
         }
 
-        private static RpcItem ReadValue(ref int from, string serializedObject)
+        private static RpcItem ReadValue(ReadOnlySpan<char> input, ref int position, int depth)
         {
-            var sb = new StringBuilder(10);
-            
-            while (from < serializedObject.Length)
+            if (position < input.Length)
             {
-                var character = serializedObject[from];
-                if (character == '{')
+                switch (input[position])
                 {
-                    var symbolStack = new Stack<char>();
-                    symbolStack.Push(character);
+                    case '{':
+                    {
+                        CheckNestingDepth(depth, position);
+
+                        position++;
+
+                        var @object = ReadObjectItems(input, ref position, depth + 1);
+
+                        ReadEndOfContainer(input, ref position, '}');
 
-                    while (symbolStack.Count != 0)
+                        return @object;
+                    }
+                    case '[':
                     {
-                        from++;
-                        character = serializedObject[from];
-
-                        if (character == '{')
-                        {
-                            symbolStack.Push(character);
-                        }
-                        else if (character == '}')
-                        {
-                            symbolStack.Pop();
-                        }
-
-                        sb.Append(character);
+                        CheckNestingDepth(depth, position);
+
+                        position++;
+
+                        var array = ReadArrayItems(input, ref position, depth + 1);
+
+                        ReadEndOfContainer(input, ref position, ']');
+
+                        return array;
                     }
+                }
+            }
 
-                    sb.Remove(sb.Length - 1, 1);
-                    var objectSerialized = sb.ToString();
-                    var @object = DeserializeToRpcWithoutMarker(objectSerialized);
-                    from++;
+            var start = position;
+
+            while (position < input.Length)
+            {
+                var character = input[position];
 
-                    return @object;
+                if (character == '\\')
+                {
+                    position += 2;
+                }
+                else if (character == '.' || character == '}' || character == ']')
+                {
+                    break;
                 }
-                
-                // TODO: Process arrays if possible
-                
-                while (from < serializedObject.Length && serializedObject[from] != '.')
+                else
                 {
-                    sb.Append(serializedObject[from]);
-                    from++;
+                    position++;
                 }
+            }
+
+            if (position > input.Length)
+            {
+                throw new ArgumentException("Escape sequence is not completed at the end of the transaction");
+            }
+
+            var value = input.Slice(start, position - start);
 
-                from++;
+            if (value.SequenceEqual(NullValue.AsSpan()))
+            {
+                return null;
+            }
 
-                return new RpcValue(Regex.Unescape(sb.ToString()));
+            return new RpcValue(TransactionEscaper.Unescape(value));
+        }
+
+        private static void CheckNestingDepth(int depth, int position)
+        {
+            if (depth == MaxNestingDepth)
+            {
+                throw new ArgumentException($"Nesting depth exceeds {MaxNestingDepth} at position {position}");
             }
+        }
 
-            return null;
+        private static bool IsEndOfContainer(ReadOnlySpan<char> input, int position)
+        {
+            return position == input.Length || input[position] == '}' || input[position] == ']';
+        }
+
+        private static void ReadEndOfContainer(ReadOnlySpan<char> input, ref int position, char endChar)
+        {
+            if (position == input.Length || input[position] != endChar)
+            {
+                throw position == input.Length
+                    ? new ArgumentException($"'{endChar}' is expected at the end of the transaction")
+                    : CreateUnexpectedCharException(input, position);
+            }
+
+            position++;
+        }
+
+        private static ArgumentException CreateUnexpectedCharException(ReadOnlySpan<char> input, int position)
+        {
+            return new ArgumentException($"Unexpected character '{input[position]}' at position {position}");
         }
 
         private static TransactionData ConstructTransactionData(RpcObject @object)
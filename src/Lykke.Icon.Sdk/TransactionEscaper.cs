@@ -0,0 +1,116 @@
+using System;
+using System.Buffers;
+using System.Text;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Escaping of values in the transaction hash serialization format. Backslash, dot, braces and
+    ///    brackets are prefixed with a backslash, all other characters are kept as is.
+    /// </summary>
+    [PublicAPI]
+    public static class TransactionEscaper
+    {
+        private static readonly char[] EscapedChars = { '\\', '.', '{', '}', '[', ']' };
+
+        public static bool NeedsEscape(char c)
+        {
+            switch (c)
+            {
+                case '\\':
+                case '.':
+                case '{':
+                case '}':
+                case '[':
+                case ']':
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        public static string Escape(string value)
+        {
+            var index = value.IndexOfAny(EscapedChars);
+
+            if (index < 0)
+            {
+                return value;
+            }
+
+            var builder = new StringBuilder(value.Length + 8);
+
+            builder.Append(value, 0, index);
+
+            for (var i = index; i < value.Length; i++)
+            {
+                var c = value[i];
+
+                if (NeedsEscape(c))
+                {
+                    builder.Append('\\');
+                }
+
+                builder.Append(c);
+            }
+
+            return builder.ToString();
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when value ends with an unpaired backslash</exception>
+        public static string Unescape(string value)
+        {
+            return Unescape(value.AsSpan());
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when value ends with an unpaired backslash</exception>
+        public static string Unescape(string value, int startIndex, int length)
+        {
+            return Unescape(value.AsSpan(startIndex, length));
+        }
+
+        /// <exception cref="ArgumentException">Is thrown in a case when value ends with an unpaired backslash</exception>
+        public static string Unescape(ReadOnlySpan<char> value)
+        {
+            var index = value.IndexOf('\\');
+
+            if (index < 0)
+            {
+                return value.ToString();
+            }
+
+            var buffer = ArrayPool<char>.Shared.Rent(value.Length);
+
+            try
+            {
+                value.Slice(0, index).CopyTo(buffer);
+
+                var length = index;
+
+                for (var i = index; i < value.Length; i++)
+                {
+                    var c = value[i];
+
+                    if (c == '\\')
+                    {
+                        if (++i == value.Length)
+                        {
+                            throw new ArgumentException("Escape sequence is not completed", nameof(value));
+                        }
+
+                        c = value[i];
+                    }
+
+                    buffer[length++] = c;
+                }
+
+                return new string(buffer, 0, length);
+            }
+            finally
+            {
+                ArrayPool<char>.Shared.Return(buffer);
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
-using System.Linq;
+using System;
+using System.Buffers;
 using System.Text;
-using System.Text.RegularExpressions;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
 
 namespace Lykke.Icon.Sdk
@@ -10,67 +10,100 @@ namespace Lykke.Icon.Sdk
     /// </summary>
     public static class TransactionSerializer
     {
+        private const string TransactionMarker = "icx_sendTransaction.";
+
+        [ThreadStatic]
+        private static Utf8TransactionWriter _writer;
+
         /// <summary>
         ///    Serializes properties to string
         /// </summary>
         public static string Serialize(RpcObject properties)
         {
-            var builder = new StringBuilder();
-            builder.Append("icx_sendTransaction.");
-            SerializeObjectItems(builder, properties);
-            return builder.ToString();
+            var writer = SerializeToUtf8(properties);
+
+            return Encoding.UTF8.GetString(writer.Buffer, 0, writer.Length);
         }
 
-        private static string Escape(string @string)
+        /// <summary>
+        ///    Serializes properties to UTF-8. The returned writer belongs to the current thread and is
+        ///    overwritten by the next serialization on it, so its buffer should not be kept after use.
+        /// </summary>
+        internal static Utf8TransactionWriter SerializeToUtf8(RpcObject properties)
         {
-            return Regex.Escape(@string);
+            return GetThreadWriter(properties);
         }
 
-        private static void Serialize(StringBuilder builder, RpcItem item)
+        private static Utf8TransactionWriter GetThreadWriter(RpcObject properties)
+        {
+            var writer = _writer ?? (_writer = new Utf8TransactionWriter());
+
+            writer.Reset();
+            writer.WriteString(TransactionMarker);
+
+            SerializeObjectItems(writer, properties);
+
+            return writer;
+        }
+
+        private static void Serialize(Utf8TransactionWriter writer, RpcItem item)
         {
             switch (item)
             {
-                case RpcObject _:
-                    builder.Append("{");
-                    SerializeObjectItems(builder, item.ToObject());
-                    builder.Append("}");
+                case RpcObject @object:
+                    writer.WriteAscii('{');
+                    SerializeObjectItems(writer, @object);
+                    writer.WriteAscii('}');
                     break;
-                case RpcArray _:
-                    builder.Append("[");
-                    SerializeArrayItems(builder, item.ToArray());
-                    builder.Append("]");
+                case RpcArray array:
+                    writer.WriteAscii('[');
+                    SerializeArrayItems(writer, array);
+                    writer.WriteAscii(']');
                     break;
                 case null:
-                    builder.Append("\\0");
+                    writer.WriteAscii('\\');
+                    writer.WriteAscii('0');
                     break;
                 default:
-                    builder.Append(Escape(item.ToString()));
+                    writer.WriteEscaped(item.ToString());
                     break;
             }
         }
 
-        private static void SerializeObjectItems(StringBuilder builder, RpcObject @object)
+        private static void SerializeObjectItems(Utf8TransactionWriter writer, RpcObject @object)
         {
-            var firstItem = true;
+            var count = @object.Size();
+            var keys = ArrayPool<string>.Shared.Rent(count);
 
-            foreach (var key in @object.GetKeys().OrderBy(x => x))
+            try
             {
-                if (firstItem)
-                {
-                    firstItem = false;
-                }
-                else
+                var keyCount = @object.CopyKeysTo(keys);
+
+                Array.Sort(keys, 0, keyCount, StringComparer.Ordinal);
+
+                for (var i = 0; i < keyCount; i++)
                 {
-                    builder.Append(".");
-                }
+                    if (i > 0)
+                    {
+                        writer.WriteAscii('.');
+                    }
+
+                    writer.WriteString(keys[i]);
+                    writer.WriteAscii('.');
 
-                Serialize(builder.Append(key).Append("."), @object.GetItem(key));
+                    Serialize(writer, @object.GetItem(keys[i]));
+                }
+            }
+            finally
+            {
+                ArrayPool<string>.Shared.Return(keys, true);
             }
         }
 
-        private static void SerializeArrayItems(StringBuilder builder, RpcArray array)
+        private static void SerializeArrayItems(Utf8TransactionWriter writer, RpcArray array)
         {
             var firstItem = true;
+
             foreach (var child in array)
             {
                 if (firstItem)
@@ -79,11 +112,11 @@ private static void SerializeArrayItems(StringBuilder builder, RpcArray array)
                 }
                 else
                 {
-                    builder.Append(".");
+                    writer.WriteAscii('.');
                 }
 
-                Serialize(builder, child);
+                Serialize(writer, child);
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+using System;
+using System.Collections.Concurrent;
+using System.Collections.Generic;
+using System.Linq;
+using System.Text;
+using System.Threading;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk.Transport.Coalescing
+{
+    /// <summary>
+    ///    Provider decorator, which lets concurrent identical read-only requests (same method, params and
+    ///    converter) share a single in-flight request to the node. Requests are not cached, a request which
+    ///    is sent after the shared one completed goes to the node again.
+    /// </summary>
+    [PublicAPI]
+    public class CoalescingProvider : IProvider
+    {
+        private readonly IProvider _provider;
+        private readonly ConcurrentDictionary<(string, string, object), Task> _inFlightRequests;
+
+        private long _coalescedRequestCount;
+
+        public CoalescingProvider(IProvider provider)
+        {
+            _provider = provider ?? throw new ArgumentNullException(nameof(provider));
+            _inFlightRequests = new ConcurrentDictionary<(string, string, object), Task>();
+        }
+
+        public Task<T> SendRequestAsync<T>(Request request, IRpcConverter<T> converter)
+        {
+            if (!RpcMethods.IsReadOnly(request.Method))
+            {
+                return _provider.SendRequestAsync(request, converter);
+            }
+
+            // Converter defines type of the result, so tasks with the same key always have the same type
+            var key = (request.Method, GetCanonicalParams(request.Params), (object) converter);
+
+            while (true)
+            {
+                if (_inFlightRequests.TryGetValue(key, out var inFlightRequest))
+                {
+                    Interlocked.Increment(ref _coalescedRequestCount);
+
+                    return (Task<T>) inFlightRequest;
+                }
+
+                var completionSource = new TaskCompletionSource<T>(TaskCreationOptions.RunContinuationsAsynchronously);
+
+                if (_inFlightRequests.TryAdd(key, completionSource.Task))
+                {
+                    _ = SendAndCompleteAsync(key, request, converter, completionSource);
+
+                    return completionSource.Task;
+                }
+            }
+        }
+
+        public Task<IReadOnlyList<BatchResult<T>>> SendBatchRequestAsync<T>(IReadOnlyList<Request> requests, IRpcConverter<T> converter)
+        {
+            return _provider.SendBatchRequestAsync(requests, converter);
+        }
+
+        /// <summary>
+        ///    Returns number of requests, which have been served by an already in-flight request
+        /// </summary>
+        public long GetCoalescedRequestCount()
+        {
+            return Interlocked.Read(ref _coalescedRequestCount);
+        }
+
+        private async Task SendAndCompleteAsync<T>((string, string, object) key, Request request, IRpcConverter<T> converter,
+            TaskCompletionSource<T> completionSource)
+        {
+            try
+            {
+                var result = await _provider.SendRequestAsync(request, converter);
+
+                _inFlightRequests.TryRemove(key, out _);
+                completionSource.SetResult(result);
+            }
+            catch (Exception e)
+            {
+                _inFlightRequests.TryRemove(key, out _);
+                completionSource.SetException(e);
+            }
+        }
+
+        private static string GetCanonicalParams(RpcObject @params)
+        {
+            if (@params == null)
+            {
+                return string.Empty;
+            }
+
+            var builder = new StringBuilder();
+
+            AppendCanonical(builder, @params);
+
+            return builder.ToString();
+        }
+
+        private static void AppendCanonical(StringBuilder builder, RpcItem item)
+        {
+            switch (item)
+            {
+                case RpcObject @object:
+                    builder.Append('{');
+
+                    foreach (var key in @object.GetKeys().OrderBy(x => x, StringComparer.Ordinal))
+                    {
+                        builder.Append(key.Length).Append(':').Append(key);
+                        AppendCanonical(builder, @object.GetItem(key));
+                    }
+
+                    builder.Append('}');
+                    break;
+                case RpcArray array:
+                    builder.Append('[');
+
+                    foreach (var childItem in array)
+                    {
+                        AppendCanonical(builder, childItem);
+                    }
+
+                    builder.Append(']');
+                    break;
+                case null:
+                    builder.Append('n');
+                    break;
+                default:
+                    var value = item.ToString() ?? string.Empty;
+
+                    // Length prefix keeps values with separator characters unambiguous
+                    builder.Append('v').Append(value.Length).Append(':').Append(value);
+                    break;
+            }
+        }
+    }
+}
@@ -1,44 +1,45 @@
 using System;
+using System.Collections.Generic;
+using System.IO;
 using System.Net;
 using System.Net.Http;
-using System.Text;
 using System.Threading.Tasks;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
-using Newtonsoft.Json;
 
 namespace Lykke.Icon.Sdk.Transport.Http
 {
     public class HttpProvider : IProvider
     {
+        private const long InternalErrorCode = -32603;
+        private const string JsonMediaType = "application/json";
+
         private readonly HttpClient _httpClient;
         private readonly string _url;
-        private readonly RpcItemSerializer _rpcItemSerializer;
+        private readonly HttpProviderOptions _options;
+        private readonly IRpcCodec _codec;
 
         public HttpProvider(HttpClient httpClient, string url)
+            : this(httpClient, url, new HttpProviderOptions())
         {
-            _rpcItemSerializer = new RpcItemSerializer();
+
+        }
+
+        public HttpProvider(HttpClient httpClient, string url, HttpProviderOptions options)
+        {
+            _codec = options.Codec ?? new NewtonsoftRpcCodec();
             _httpClient = httpClient;
             _url = url;
+            _options = options;
         }
 
         /// <exception cref="HttpRequestException">Is thrown in a case when response from node is not OK</exception>
+        /// <exception cref="RpcErrorException">Is thrown in a case when node answered with an error</exception>
+        /// <exception cref="InvalidOperationException">Is thrown in a case when response id does not match request id</exception>
         public async Task<T> SendRequestAsync<T>(Request request, IRpcConverter<T> converter)
         {
-            var serializedRequest = JsonConvert.SerializeObject(request, _rpcItemSerializer);
-            var content = new StringContent(serializedRequest, Encoding.UTF8, "application/json");
-            var httpResponse = await _httpClient.PostAsync(_url, content);
-            var responseSerialized = await httpResponse.Content.ReadAsStringAsync();
-
-            if (!httpResponse.IsSuccessStatusCode)
-            {
-                var errorCode = (int)httpResponse.StatusCode;
-                if (errorCode >= (int)HttpStatusCode.InternalServerError)
-                    throw new HttpRequestException($"Response status code == {errorCode}, " +
-                                                   $"Response body {responseSerialized}");
-            }
-
-            var response = (Response)JsonConvert.DeserializeObject(responseSerialized, typeof(Response), _rpcItemSerializer);
+            var response = await SendAsync(stream => _codec.WriteRequest(stream, request), _codec.ReadResponseAsync);
 
+            // Errors are checked first: node answers parse and validation errors with null id
             if (response.Error != null)
             {
                 var exception = response.Error.ToException();
@@ -46,9 +47,108 @@ public async Task<T> SendRequestAsync<T>(Request request, IRpcConverter<T> conve
                 throw exception;
             }
 
+            if (response.Id != request.Id)
+            {
+                throw new InvalidOperationException($"Response id {response.Id} does not match request id {request.Id}");
+            }
+
             var convertedResult = converter.ConvertTo(response.Result);
 
             return convertedResult;
         }
+
+        /// <exception cref="HttpRequestException">Is thrown in a case when response from node is not OK</exception>
+        /// <exception cref="RpcErrorException">Is thrown in a case when node rejected the batch as a whole</exception>
+        public async Task<IReadOnlyList<BatchResult<T>>> SendBatchRequestAsync<T>(IReadOnlyList<Request> requests, IRpcConverter<T> converter)
+        {
+            if (requests == null)
+            {
+                throw new ArgumentNullException(nameof(requests));
+            }
+
+            if (requests.Count == 0)
+            {
+                return new BatchResult<T>[0];
+            }
+
+            var requestIds = new HashSet<long>();
+
+            foreach (var request in requests)
+            {
+                if (!requestIds.Add(request.Id))
+                {
+                    throw new ArgumentException($"Request id {request.Id} is used more than once in the batch", nameof(requests));
+                }
+            }
+
+            var responses = await SendAsync(stream => _codec.WriteBatchRequest(stream, requests), _codec.ReadBatchResponseAsync);
+
+            var responseMap = new Dictionary<long, Response>(responses.Count);
+
+            foreach (var response in responses)
+            {
+                responseMap[response.Id] = response;
+            }
+
+            var results = new BatchResult<T>[requests.Count];
+
+            for (var i = 0; i < requests.Count; i++)
+            {
+                var requestId = requests[i].Id;
+
+                if (!responseMap.TryGetValue(requestId, out var response))
+                {
+                    results[i] = new BatchResult<T>(requestId, new RpcError(InternalErrorCode, $"Response for request {requestId} is missing in the batch"));
+                }
+                else if (response.Error != null)
+                {
+                    results[i] = new BatchResult<T>(requestId, response.Error);
+                }
+                else
+                {
+                    results[i] = new BatchResult<T>(requestId, converter.ConvertTo(response.Result));
+                }
+            }
+
+            return results;
+        }
+
+        private async Task<TResponse> SendAsync<TResponse>(Action<Stream> writeRequest, Func<Stream, Task<TResponse>> readResponse)
+        {
+            var completionOption = _options.UseStreaming
+                ? HttpCompletionOption.ResponseHeadersRead
+                : HttpCompletionOption.ResponseContentRead;
+
+            using (var content = SerializeToPooledContent(writeRequest))
+            using (var httpRequest = new HttpRequestMessage(HttpMethod.Post, _url) { Content = content })
+            using (var httpResponse = await _httpClient.SendAsync(httpRequest, completionOption))
+            {
+                if (!httpResponse.IsSuccessStatusCode)
+                {
+                    var errorCode = (int)httpResponse.StatusCode;
+                    if (errorCode >= (int)HttpStatusCode.InternalServerError)
+                    {
+                        var responseSerialized = await httpResponse.Content.ReadAsStringAsync();
+
+                        throw new HttpRequestException($"Response status code == {errorCode}, " +
+                                                       $"Response body {responseSerialized}");
+                    }
+                }
+
+                using (var responseStream = await httpResponse.Content.ReadAsStreamAsync())
+                {
+                    return await readResponse(responseStream);
+                }
+            }
+        }
+
+        private static HttpContent SerializeToPooledContent(Action<Stream> writeRequest)
+        {
+            var stream = MemoryStreamPool.Rent();
+
+            writeRequest(stream);
+
+            return new PooledStreamContent(stream, JsonMediaType);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk.Transport.Http
+{
+    /// <summary>
+    ///    Optional settings of HttpProvider
+    /// </summary>
+    [PublicAPI]
+    public class HttpProviderOptions
+    {
+        /// <summary>
+        ///    When set, the response stream is handed to the codec as soon as headers are received, instead of
+        ///    HttpClient buffering the whole body into a single array. NewtonsoftRpcCodec reads it into small
+        ///    pooled segments, so large bodies (blocks, for example) do not allocate on the large object heap.
+        /// </summary>
+        public bool UseStreaming { get; set; }
+
+        /// <summary>
+        ///    Codec used to write requests and read responses. NewtonsoftRpcCodec is used if not set.
+        /// </summary>
+        public IRpcCodec Codec { get; set; }
+    }
+}
@@ -0,0 +1,37 @@
+using System.Collections.Concurrent;
+using System.IO;
+
+namespace Lykke.Icon.Sdk.Transport.Http
+{
+    /// <summary>
+    ///    Keeps a few serialization buffers for reuse. Buffers grown above MaxRetainedCapacity
+    ///    are dropped to not pin large objects forever.
+    /// </summary>
+    internal static class MemoryStreamPool
+    {
+        private const int MaxRetainedCapacity = 1024 * 1024;
+        private const int MaxRetainedCount = 32;
+
+        private static readonly ConcurrentQueue<MemoryStream> Streams = new ConcurrentQueue<MemoryStream>();
+
+        public static MemoryStream Rent()
+        {
+            if (Streams.TryDequeue(out var stream))
+            {
+                stream.SetLength(0);
+
+                return stream;
+            }
+
+            return new MemoryStream();
+        }
+
+        public static void Return(MemoryStream stream)
+        {
+            if (stream.Capacity <= MaxRetainedCapacity && Streams.Count < MaxRetainedCount)
+            {
+                Streams.Enqueue(stream);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+using System;
+using System.Buffers;
+using System.Collections.Generic;
+using System.IO;
+using System.Threading.Tasks;
+
+namespace Lykke.Icon.Sdk.Transport.Http
+{
+    /// <summary>
+    ///    Read-only stream over a body, which was read into pooled segments. Segments are small enough to stay
+    ///    off the large object heap, so large bodies never need a single contiguous buffer. Segments are
+    ///    returned to the pool when the stream is disposed.
+    /// </summary>
+    internal sealed class PooledSegmentStream : Stream
+    {
+        private const int SegmentSize = 16 * 1024;
+
+        private readonly List<byte[]> _segments;
+        private long _length;
+        private long _position;
+
+        private PooledSegmentStream()
+        {
+            _segments = new List<byte[]>();
+        }
+
+        public override bool CanRead => true;
+
+        public override bool CanSeek => false;
+
+        public override bool CanWrite => false;
+
+        public override long Length => _length;
+
+        public override long Position
+        {
+            get => _position;
+            set => throw new NotSupportedException();
+        }
+
+        /// <summary>
+        ///    Reads the source to the end asynchronously
+        /// </summary>
+        public static async Task<PooledSegmentStream> ReadFromAsync(Stream source)
+        {
+            var stream = new PooledSegmentStream();
+
+            try
+            {
+                while (true)
+                {
+                    var segment = ArrayPool<byte>.Shared.Rent(SegmentSize);
+                    var filled = 0;
+
+                    stream._segments.Add(segment);
+
+                    while (filled < SegmentSize)
+                    {
+                        var read = await source.ReadAsync(segment, filled, SegmentSize - filled);
+
+                        if (read == 0)
+                        {
+                            stream._length += filled;
+
+                            return stream;
+                        }
+
+                        filled += read;
+                    }
+
+                    stream._length += filled;
+                }
+            }
+            catch
+            {
+                stream.Dispose();
+
+                throw;
+            }
+        }
+
+        public override int Read(byte[] buffer, int offset, int count)
+        {
+            var remaining = _length - _position;
+
+            if (remaining <= 0 || count <= 0)
+            {
+                return 0;
+            }
+
+            // All segments but the last one are full
+            var segment = _segments[(int) (_position / SegmentSize)];
+            var segmentOffset = (int) (_position % SegmentSize);
+            var copied = (int) Math.Min(Math.Min(count, SegmentSize - segmentOffset), remaining);
+
+            Buffer.BlockCopy(segment, segmentOffset, buffer, offset, copied);
+
+            _position += copied;
+
+            return copied;
+        }
+
+        public override void Flush()
+        {
+
+        }
+
+        public override long Seek(long offset, SeekOrigin origin)
+        {
+            throw new NotSupportedException();
+        }
+
+        public override void SetLength(long value)
+        {
+            throw new NotSupportedException();
+        }
+
+        public override void Write(byte[] buffer, int offset, int count)
+        {
+            throw new NotSupportedException();
+        }
+
+        protected override void Dispose(bool disposing)
+        {
+            if (disposing)
+            {
+                foreach (var segment in _segments)
+                {
+                    ArrayPool<byte>.Shared.Return(segment);
+                }
+
+                _segments.Clear();
+                _length = 0;
+                _position = 0;
+            }
+
+            base.Dispose(disposing);
+        }
+    }
+}
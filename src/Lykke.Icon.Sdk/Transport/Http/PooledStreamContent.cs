@@ -0,0 +1,51 @@
+using System.IO;
+using System.Net;
+using System.Net.Http;
+using System.Net.Http.Headers;
+using System.Threading;
+using System.Threading.Tasks;
+
+namespace Lykke.Icon.Sdk.Transport.Http
+{
+    /// <summary>
+    ///    Http content over a pooled buffer. The buffer is returned to the pool when the content is disposed.
+    /// </summary>
+    internal sealed class PooledStreamContent : HttpContent
+    {
+        private MemoryStream _stream;
+
+        public PooledStreamContent(MemoryStream stream, string mediaType)
+        {
+            _stream = stream;
+
+            Headers.ContentType = new MediaTypeHeaderValue(mediaType) { CharSet = "utf-8" };
+        }
+
+        protected override Task SerializeToStreamAsync(Stream stream, TransportContext context)
+        {
+            return stream.WriteAsync(_stream.GetBuffer(), 0, (int)_stream.Length);
+        }
+
+        protected override bool TryComputeLength(out long length)
+        {
+            length = _stream.Length;
+
+            return true;
+        }
+
+        protected override void Dispose(bool disposing)
+        {
+            if (disposing)
+            {
+                var stream = Interlocked.Exchange(ref _stream, null);
+
+                if (stream != null)
+                {
+                    MemoryStreamPool.Return(stream);
+                }
+            }
+
+            base.Dispose(disposing);
+        }
+    }
+}
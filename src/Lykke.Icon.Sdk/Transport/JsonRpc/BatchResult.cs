@@ -0,0 +1,42 @@
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Result of a single request in a JSON-RPC batch. Either Result or Error is set.
+    /// </summary>
+    [PublicAPI]
+    public class BatchResult<T>
+    {
+        public BatchResult(long id, T result)
+        {
+            Id = id;
+            Result = result;
+        }
+
+        public BatchResult(long id, RpcError error)
+        {
+            Id = id;
+            Error = error;
+        }
+
+        public long Id { get; }
+
+        public T Result { get; }
+
+        public RpcError Error { get; }
+
+        public bool IsSuccess => Error == null;
+
+        /// <exception cref="RpcErrorException">Is thrown in a case when node returned an error for the request</exception>
+        public T GetResultOrThrow()
+        {
+            if (Error != null)
+            {
+                throw Error.ToException();
+            }
+
+            return Result;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Generates JSON-RPC request ids. Implementations should be thread-safe and
+    ///    should not repeat ids while responses for them can still be in flight.
+    /// </summary>
+    public interface IRequestIdGenerator
+    {
+        long NextId();
+    }
+}
@@ -0,0 +1,21 @@
+using System.Collections.Generic;
+using System.IO;
+using System.Threading.Tasks;
+
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Encodes JSON-RPC requests and decodes responses to RpcItem trees
+    /// </summary>
+    public interface IRpcCodec
+    {
+        void WriteRequest(Stream stream, Request request);
+
+        void WriteBatchRequest(Stream stream, IReadOnlyList<Request> requests);
+
+        Task<Response> ReadResponseAsync(Stream stream);
+
+        /// <exception cref="RpcErrorException">Is thrown in a case when node rejected the batch as a whole</exception>
+        Task<IReadOnlyList<Response>> ReadBatchResponseAsync(Stream stream);
+    }
+}
@@ -0,0 +1,100 @@
+using System.Collections.Generic;
+using System.IO;
+using System.Text;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Transport.Http;
+using Newtonsoft.Json;
+
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Codec based on Newtonsoft.Json and RpcItemSerializer
+    /// </summary>
+    [PublicAPI]
+    public class NewtonsoftRpcCodec : IRpcCodec
+    {
+        private const int BufferSize = 1024;
+
+        private static readonly Encoding Utf8NoBom = new UTF8Encoding(false);
+
+        private readonly JsonSerializer _serializer;
+
+        public NewtonsoftRpcCodec()
+        {
+            _serializer = JsonSerializer.CreateDefault();
+            _serializer.Converters.Add(new RpcItemSerializer());
+        }
+
+        public void WriteRequest(Stream stream, Request request)
+        {
+            Write(stream, request);
+        }
+
+        public void WriteBatchRequest(Stream stream, IReadOnlyList<Request> requests)
+        {
+            Write(stream, requests);
+        }
+
+        public async Task<Response> ReadResponseAsync(Stream stream)
+        {
+            using (var body = await ReadNetworkBodyAsync(stream))
+            using (var reader = CreateReader(body ?? stream))
+            {
+                return _serializer.Deserialize<Response>(reader);
+            }
+        }
+
+        public async Task<IReadOnlyList<Response>> ReadBatchResponseAsync(Stream stream)
+        {
+            using (var body = await ReadNetworkBodyAsync(stream))
+            using (var reader = CreateReader(body ?? stream))
+            {
+                reader.Read();
+
+                // Node answers with a single response object, when it can not process the batch at all
+                if (reader.TokenType == JsonToken.StartObject)
+                {
+                    var response = _serializer.Deserialize<Response>(reader);
+
+                    if (response.Error != null)
+                    {
+                        throw response.Error.ToException();
+                    }
+
+                    return new[] { response };
+                }
+
+                return _serializer.Deserialize<List<Response>>(reader);
+            }
+        }
+
+        /// <summary>
+        ///    JsonSerializer reads synchronously, so a network stream is first read asynchronously into small
+        ///    pooled segments and parsed from them. Returns null for a body, which is already in memory.
+        /// </summary>
+        private static async Task<PooledSegmentStream> ReadNetworkBodyAsync(Stream stream)
+        {
+            if (stream is MemoryStream)
+            {
+                return null;
+            }
+
+            return await PooledSegmentStream.ReadFromAsync(stream);
+        }
+
+        private static JsonTextReader CreateReader(Stream stream)
+        {
+            return new JsonTextReader(new StreamReader(stream, Encoding.UTF8, true, BufferSize, true));
+        }
+
+        private void Write(Stream stream, object value)
+        {
+            using (var streamWriter = new StreamWriter(stream, Utf8NoBom, BufferSize, true))
+            using (var writer = new JsonTextWriter(streamWriter))
+            {
+                _serializer.Serialize(writer, value);
+            }
+        }
+    }
+}
@@ -12,7 +12,9 @@ public class Response
         [DataMember(Name = "method")]
         public string Method { get; set; }
 
+        // Error responses may have null id
         [DataMember(Name = "id")]
+        [JsonProperty("id", NullValueHandling = NullValueHandling.Ignore)]
         public long Id { get; set; }
 
         [JsonConverter(typeof(RpcItemSerializer))]
@@ -1,3 +1,4 @@
+using System;
 using System.Runtime.Serialization;
 
 namespace Lykke.Icon.Sdk.Transport.JsonRpc
@@ -5,6 +6,13 @@ namespace Lykke.Icon.Sdk.Transport.JsonRpc
     [DataContract]
     public class RpcError
     {
+        private const long InvalidParamsCode = -32602;
+
+        // Codes of goloop based nodes
+        private const long PendingCode = -31002;
+        private const long ExecutingCode = -31003;
+        private const long NotFoundCode = -31004;
+
         public RpcError(long code, string message)
         {
             Code = code;
@@ -21,5 +29,50 @@ public RpcErrorException ToException()
         {
             return new RpcErrorException(Code, Message);
         }
+
+        /// <summary>
+        ///    Checks if the error of icx_getTransactionResult means that the transaction is not executed yet
+        /// </summary>
+        public bool IsTransactionPending()
+        {
+            return IsTransactionPending(Code, Message);
+        }
+
+        /// <summary>
+        ///    Checks if the error of icx_getTransactionResult means that the node does not know the transaction yet,
+        ///    which is normal right after the transaction was sent through another node
+        /// </summary>
+        public bool IsTransactionNotFound()
+        {
+            return IsTransactionNotFound(Code, Message);
+        }
+
+        internal static bool IsTransactionPending(long code, string message)
+        {
+            if (code == PendingCode || code == ExecutingCode)
+            {
+                return true;
+            }
+
+            return code == InvalidParamsCode
+                && (Contains(message, "pending") || Contains(message, "executing"));
+        }
+
+        internal static bool IsTransactionNotFound(long code, string message)
+        {
+            if (code == NotFoundCode)
+            {
+                return true;
+            }
+
+            // loopchain based nodes answer "Invalid params txHash" for unknown hashes
+            return code == InvalidParamsCode
+                && (Contains(message, "txHash") || Contains(message, "not found"));
+        }
+
+        private static bool Contains(string message, string value)
+        {
+            return message != null && message.IndexOf(value, StringComparison.OrdinalIgnoreCase) >= 0;
+        }
     }
 }
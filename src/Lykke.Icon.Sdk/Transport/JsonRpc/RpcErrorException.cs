@@ -18,5 +18,21 @@ public RpcErrorException(long code, string message)
         }
 
         public long Code { get; }
+
+        /// <summary>
+        ///    Checks if the error of icx_getTransactionResult means that the transaction is not executed yet
+        /// </summary>
+        public bool IsTransactionPending()
+        {
+            return RpcError.IsTransactionPending(Code, Message);
+        }
+
+        /// <summary>
+        ///    Checks if the error of icx_getTransactionResult means that the node does not know the transaction yet
+        /// </summary>
+        public bool IsTransactionNotFound()
+        {
+            return RpcError.IsTransactionNotFound(Code, Message);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Names of ICON JSON-RPC methods
+    /// </summary>
+    public static class RpcMethods
+    {
+        public const string Call = "icx_call";
+        public const string GetBalance = "icx_getBalance";
+        public const string GetBlockByHash = "icx_getBlockByHash";
+        public const string GetBlockByHeight = "icx_getBlockByHeight";
+        public const string GetLastBlock = "icx_getLastBlock";
+        public const string GetScoreApi = "icx_getScoreApi";
+        public const string GetTotalSupply = "icx_getTotalSupply";
+        public const string GetTransactionByHash = "icx_getTransactionByHash";
+        public const string GetTransactionResult = "icx_getTransactionResult";
+        public const string SendTransaction = "icx_sendTransaction";
+
+        /// <summary>
+        ///    Checks if the method only reads the state of the network, so it can be safely repeated
+        /// </summary>
+        public static bool IsReadOnly(string method)
+        {
+            switch (method)
+            {
+                case Call:
+                case GetBalance:
+                case GetBlockByHash:
+                case GetBlockByHeight:
+                case GetLastBlock:
+                case GetScoreApi:
+                case GetTotalSupply:
+                case GetTransactionByHash:
+                case GetTransactionResult:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
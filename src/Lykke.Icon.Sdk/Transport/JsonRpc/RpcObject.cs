@@ -1,13 +1,43 @@
+using System;
 using System.Collections.Generic;
-using System.Linq;
+using System.Text;
 using JetBrains.Annotations;
 
 namespace Lykke.Icon.Sdk.Transport.JsonRpc
 {
+    /// <summary>
+    ///    Immutable object of the JSON-RPC items. Small objects keep their items in flat arrays with the linear
+    ///    lookup, larger ones use a dictionary. Keys are kept in the insertion order in both cases.
+    /// </summary>
     public class RpcObject : RpcItem
     {
+        // Objects up to this size are searched linearly, which is faster and smaller than a dictionary.
+        // Signed transactions have up to 11 items and transaction results up to 13.
+        private const int MaxCompactSize = 16;
+        private const int InitialCompactSize = 8;
+
+        private static readonly Dictionary<string, string> CommonKeys = CreateCommonKeys
+        (
+            "version", "from", "to", "value", "stepLimit", "timestamp", "nid", "nonce", "signature",
+            "dataType", "data", "method", "params", "contentType", "content", "txHash", "txIndex",
+            "blockHeight", "blockHash", "status", "stepUsed", "stepPrice", "cumulativeStepUsed",
+            "eventLogs", "logsBloom", "scoreAddress", "indexed", "failure", "code", "message",
+            "height", "block_hash", "prev_block_hash", "merkle_tree_root_hash", "time_stamp",
+            "confirmed_transaction_list", "peer_id", "tx_hash", "fee", "_to", "_value"
+        );
+
+        private readonly string[] _keys;
+        private readonly RpcItem[] _values;
+        private readonly int _count;
         private readonly Dictionary<string, RpcItem> _items;
 
+        private RpcObject(string[] keys, RpcItem[] values, int count)
+        {
+            _keys = keys;
+            _values = values;
+            _count = count;
+        }
+
         private RpcObject(Dictionary<string, RpcItem> items)
         {
             _items = items;
@@ -15,29 +45,117 @@ private RpcObject(Dictionary<string, RpcItem> items)
 
         public IEnumerable<string> GetKeys()
         {
-            return _items.Keys;
+            return _items != null ? (IEnumerable<string>) _items.Keys : EnumerateCompactKeys();
+        }
+
+        public int Size()
+        {
+            return _items?.Count ?? _count;
+        }
+
+        /// <summary>
+        ///    Copies keys to the destination, which should have at least Size() elements, without allocating an enumerator
+        /// </summary>
+        internal int CopyKeysTo(string[] destination)
+        {
+            if (_items != null)
+            {
+                _items.Keys.CopyTo(destination, 0);
+
+                return _items.Count;
+            }
+
+            Array.Copy(_keys, destination, _count);
+
+            return _count;
         }
 
         public RpcItem GetItem(string key)
         {
-            _items.TryGetValue(key, out var result);
-            return result;
+            if (_items != null)
+            {
+                _items.TryGetValue(key, out var result);
+
+                return result;
+            }
+
+            var index = IndexOf(_keys, _count, key);
+
+            return index >= 0 ? _values[index] : null;
         }
 
         public override string ToString()
         {
-            return "RpcObject(items=" + _items + ')';
+            var builder = new StringBuilder("RpcObject(items={");
+            var firstItem = true;
+
+            foreach (var key in GetKeys())
+            {
+                if (!firstItem)
+                {
+                    builder.Append(", ");
+                }
+
+                builder.Append(key).Append('=').Append(GetItem(key));
+
+                firstItem = false;
+            }
+
+            return builder.Append("})").ToString();
         }
 
         public override bool IsEmpty()
         {
-            return _items == null || !_items.Any();
+            return Size() == 0;
+        }
+
+        private IEnumerable<string> EnumerateCompactKeys()
+        {
+            // Arrays are shared with the builder, so they are not exposed directly
+            for (var i = 0; i < _count; i++)
+            {
+                yield return _keys[i];
+            }
         }
 
+        private static int IndexOf(string[] keys, int count, string key)
+        {
+            for (var i = 0; i < count; i++)
+            {
+                if (string.Equals(keys[i], key))
+                {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private static Dictionary<string, string> CreateCommonKeys(params string[] keys)
+        {
+            var commonKeys = new Dictionary<string, string>(StringComparer.Ordinal);
+
+            foreach (var key in keys)
+            {
+                commonKeys[key] = key;
+            }
+
+            return commonKeys;
+        }
+
+        /// <summary>
+        ///    Builds RpcObject. The first item put for a key is kept, null and empty items are skipped.
+        ///    Build hands the storage over to the object without copying. The builder can still be used further:
+        ///    compact objects only see the items they were built with, a shared dictionary is copied on the next put.
+        /// </summary>
         [PublicAPI]
         public class Builder
         {
+            private string[] _keys;
+            private RpcItem[] _values;
+            private int _count;
             private Dictionary<string, RpcItem> _items;
+            private bool _itemsShared;
 
             public Builder() : this(Sort.None)
             {
@@ -55,16 +173,63 @@ public Builder(Sort sort)
                     //    items = new LinkedHashMap<>();
                     //    break;
                     default:
-                        _items = new Dictionary<string, RpcItem>();
+                        _keys = new string[InitialCompactSize];
+                        _values = new RpcItem[InitialCompactSize];
                         break;
                 }
             }
 
             public Builder Put(string key, RpcItem item)
             {
-                if (!_items.ContainsKey(key) && !IsNullOrEmpty(item))
+                if (key == null)
+                {
+                    throw new ArgumentNullException(nameof(key));
+                }
+
+                if (IsNullOrEmpty(item))
+                {
+                    return this;
+                }
+
+                // Keys of parsed responses are new strings, common ones are replaced with the shared instances
+                if (CommonKeys.TryGetValue(key, out var commonKey))
                 {
-                    _items[key] = item;
+                    key = commonKey;
+                }
+
+                if (_items != null)
+                {
+                    if (!_items.ContainsKey(key))
+                    {
+                        if (_itemsShared)
+                        {
+                            _items = new Dictionary<string, RpcItem>(_items);
+                            _itemsShared = false;
+                        }
+
+                        _items.Add(key, item);
+                    }
+                }
+                else if (IndexOf(_keys, _count, key) < 0)
+                {
+                    if (_count == MaxCompactSize)
+                    {
+                        SwitchToDictionary();
+
+                        _items.Add(key, item);
+                    }
+                    else
+                    {
+                        if (_count == _keys.Length)
+                        {
+                            Grow();
+                        }
+
+                        // Slots above the count of built objects are never read by them, so the arrays are not copied
+                        _keys[_count] = key;
+                        _values[_count] = item;
+                        _count++;
+                    }
                 }
                 
                 return this;
@@ -72,7 +237,40 @@ public Builder Put(string key, RpcItem item)
 
             public RpcObject Build()
             {
-                return new RpcObject(_items);
+                if (_items != null)
+                {
+                    _itemsShared = true;
+
+                    return new RpcObject(_items);
+                }
+
+                return new RpcObject(_keys, _values, _count);
+            }
+
+            private void Grow()
+            {
+                var keys = new string[Math.Min(2 * _keys.Length, MaxCompactSize)];
+                var values = new RpcItem[keys.Length];
+
+                Array.Copy(_keys, keys, _count);
+                Array.Copy(_values, values, _count);
+
+                _keys = keys;
+                _values = values;
+            }
+
+            private void SwitchToDictionary()
+            {
+                _items = new Dictionary<string, RpcItem>(2 * MaxCompactSize);
+
+                for (var i = 0; i < _count; i++)
+                {
+                    _items.Add(_keys[i], _values[i]);
+                }
+
+                _keys = null;
+                _values = null;
+                _count = 0;
             }
 
             private static bool IsNullOrEmpty(RpcItem item)
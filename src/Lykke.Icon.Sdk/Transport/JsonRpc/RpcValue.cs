@@ -1,6 +1,8 @@
 using System;
 using System.Globalization;
 using System.Numerics;
+using System.Runtime.CompilerServices;
+using System.Threading;
 using JetBrains.Annotations;
 using Lykke.Icon.Sdk.Data;
 
@@ -9,11 +11,15 @@ namespace Lykke.Icon.Sdk.Transport.JsonRpc
     [PublicAPI]
     public class RpcValue : RpcItem
     {
-        private string _value;
+        private readonly string _value;
+
+        // Parsed once, boxed because BigInteger can not be published atomically between threads
+        private StrongBox<BigInteger> _integer;
 
         public RpcValue(RpcValue value)
         {
             _value = value.ToString();
+            _integer = Volatile.Read(ref value._integer);
         }
 
         public RpcValue(Address value)
@@ -41,6 +47,7 @@ public RpcValue(BigInteger value)
             var sign = (value.Sign == -1) ? "-" : "";
             
             _value = sign + Bytes.HexPrefix + BigInteger.Abs(value).ToString("x").TrimStart('0');
+            _integer = new StrongBox<BigInteger>(value);
         }
 
         public RpcValue(bool value)
@@ -53,6 +60,11 @@ public RpcValue(Bytes value)
             _value = value.ToString();
         }
 
+        public RpcValue(Hash32 value)
+        {
+            _value = value.ToString();
+        }
+
         public override bool IsEmpty()
         {
             return _value == null || string.IsNullOrEmpty(_value);
@@ -91,40 +103,79 @@ public override Bytes ToBytes()
             return new Bytes(_value);
         }
 
+        /// <summary>
+        ///    Gets the value as an integer. The value is parsed on the first call and cached, the method is thread-safe.
+        /// </summary>
         public override BigInteger ToInteger()
         {
-            if (!(_value.StartsWith(Bytes.HexPrefix) || _value.StartsWith('-' + Bytes.HexPrefix)))
+            var integer = Volatile.Read(ref _integer);
+
+            if (integer == null)
             {
-                throw new RpcValueException("The value is not hex string.");
+                integer = new StrongBox<BigInteger>(ParseInteger(_value));
+
+                Volatile.Write(ref _integer, integer);
             }
 
-            try
+            return integer.Value;
+        }
+
+        /// <summary>
+        ///    Gets the value as Int64 without BigInteger parsing. Returns false, if the value is not a hex number
+        ///    or does not fit in Int64.
+        /// </summary>
+        public bool TryToInt64(out long value)
+        {
+            value = 0;
+
+            if (!TrySplitHexNumber(_value, out var isNegative, out var digits) || !TryParseHexUInt64(digits, out var magnitude))
+            {
+                return false;
+            }
+
+            if (isNegative)
             {
-                //The dark magic with 0 and f explained in the article below:
-                //https://stackoverflow.com/questions/30119174/converting-a-hex-string-to-its-biginteger-equivalent-negates-the-value
-                
-                var sign = "0";
-                
-                if (_value[0] == '-')
+                if (magnitude > (ulong) long.MaxValue + 1)
                 {
-                    sign = "";// value.Substring(0, 1);
-                    _value = _value.Substring(1);
+                    return false;
                 }
 
-                var result = "0" + Bytes.CleanHexPrefix(_value);
-                var parseResult = BigInteger.Parse(result, NumberStyles.AllowHexSpecifier);
-
-                if (string.IsNullOrEmpty(sign))
+                value = (long) (0 - magnitude);
+            }
+            else
+            {
+                if (magnitude > long.MaxValue)
                 {
-                    parseResult *= -1;
+                    return false;
                 }
 
-                return parseResult;
+                value = (long) magnitude;
+            }
+
+            return true;
+        }
+
+        /// <summary>
+        ///    Gets the value as UInt64 without BigInteger parsing. Returns false, if the value is not a hex number
+        ///    or does not fit in UInt64.
+        /// </summary>
+        public bool TryToUInt64(out ulong value)
+        {
+            value = 0;
+
+            if (!TrySplitHexNumber(_value, out var isNegative, out var digits) || !TryParseHexUInt64(digits, out var magnitude))
+            {
+                return false;
             }
-            catch (Exception)
+
+            if (isNegative && magnitude != 0)
             {
-                throw new RpcValueException("The value is not hex string.");
+                return false;
             }
+
+            value = magnitude;
+
+            return true;
         }
 
         public override bool ToBoolean()
@@ -144,5 +195,83 @@ public override string ToString()
         {
             return _value;
         }
+
+        private static BigInteger ParseInteger(string value)
+        {
+            if (!TrySplitHexNumber(value, out var isNegative, out var digits))
+            {
+                throw new RpcValueException("The value is not hex string.");
+            }
+
+            BigInteger result;
+
+            if (TryParseHexUInt64(digits, out var magnitude))
+            {
+                result = new BigInteger(magnitude);
+            }
+            else
+            {
+                try
+                {
+                    //The dark magic with 0 explained in the article below:
+                    //https://stackoverflow.com/questions/30119174/converting-a-hex-string-to-its-biginteger-equivalent-negates-the-value
+
+                    result = BigInteger.Parse("0" + digits.ToString(), NumberStyles.AllowHexSpecifier);
+                }
+                catch (Exception)
+                {
+                    throw new RpcValueException("The value is not hex string.");
+                }
+            }
+
+            return isNegative ? -result : result;
+        }
+
+        private static bool TrySplitHexNumber(string value, out bool isNegative, out ReadOnlySpan<char> digits)
+        {
+            isNegative = value != null && value.StartsWith('-' + Bytes.HexPrefix, StringComparison.Ordinal);
+
+            if (!isNegative && (value == null || !value.StartsWith(Bytes.HexPrefix, StringComparison.Ordinal)))
+            {
+                digits = default;
+
+                return false;
+            }
+
+            digits = value.AsSpan(isNegative ? 3 : 2);
+
+            return true;
+        }
+
+        private static bool TryParseHexUInt64(ReadOnlySpan<char> digits, out ulong value)
+        {
+            value = 0;
+
+            var start = 0;
+
+            while (start < digits.Length && digits[start] == '0')
+            {
+                start++;
+            }
+
+            if (digits.Length - start > 2 * sizeof(ulong))
+            {
+                return false;
+            }
+
+            for (var i = start; i < digits.Length; i++)
+            {
+                var digit = HexConverter.GetDigitValue(digits[i], true);
+
+                if (digit < 0)
+                {
+                    return false;
+                }
+
+                value = (value << 4) | (uint) digit;
+            }
+
+            return true;
+        }
     }
 }
@@ -0,0 +1,30 @@
+using System.Threading;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Lock-free generator, which issues monotonically increasing request ids 
+    /// </summary>
+    [PublicAPI]
+    public class SequentialRequestIdGenerator : IRequestIdGenerator
+    {
+        private long _lastId;
+
+        public SequentialRequestIdGenerator()
+            : this(0)
+        {
+            
+        }
+
+        public SequentialRequestIdGenerator(long lastId)
+        {
+            _lastId = lastId;
+        }
+
+        public long NextId()
+        {
+            return Interlocked.Increment(ref _lastId);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+using System;
+using System.Buffers;
+using System.Collections.Generic;
+using System.Globalization;
+using System.IO;
+using System.Numerics;
+using System.Text;
+using System.Text.Encodings.Web;
+using System.Text.Json;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.JsonRpc
+{
+    /// <summary>
+    ///    Codec based on System.Text.Json Utf8JsonReader and Utf8JsonWriter. Produces the same RpcItem
+    ///    trees as NewtonsoftRpcCodec, but reads straight from UTF-8 buffers.
+    /// </summary>
+    [PublicAPI]
+    public class Utf8JsonRpcCodec : IRpcCodec
+    {
+        private const int InitialBufferSize = 16 * 1024;
+
+        private static readonly byte[] Utf8Bom = { 0xEF, 0xBB, 0xBF };
+        private static readonly byte[] JsonrpcPropertyName = Encoding.UTF8.GetBytes("jsonrpc");
+        private static readonly byte[] MethodPropertyName = Encoding.UTF8.GetBytes("method");
+        private static readonly byte[] IdPropertyName = Encoding.UTF8.GetBytes("id");
+        private static readonly byte[] ResultPropertyName = Encoding.UTF8.GetBytes("result");
+        private static readonly byte[] ErrorPropertyName = Encoding.UTF8.GetBytes("error");
+        private static readonly byte[] CodePropertyName = Encoding.UTF8.GetBytes("code");
+        private static readonly byte[] MessagePropertyName = Encoding.UTF8.GetBytes("message");
+
+        private static readonly JsonWriterOptions WriterOptions = new JsonWriterOptions
+        {
+            Encoder = JavaScriptEncoder.UnsafeRelaxedJsonEscaping
+        };
+
+        public void WriteRequest(Stream stream, Request request)
+        {
+            using (var writer = new Utf8JsonWriter(stream, WriterOptions))
+            {
+                WriteRequest(writer, request);
+            }
+        }
+
+        public void WriteBatchRequest(Stream stream, IReadOnlyList<Request> requests)
+        {
+            using (var writer = new Utf8JsonWriter(stream, WriterOptions))
+            {
+                writer.WriteStartArray();
+
+                foreach (var request in requests)
+                {
+                    WriteRequest(writer, request);
+                }
+
+                writer.WriteEndArray();
+            }
+        }
+
+        public async Task<Response> ReadResponseAsync(Stream stream)
+        {
+            var (buffer, length) = await ReadToPooledBufferAsync(stream);
+
+            try
+            {
+                return ParseResponse(GetJson(buffer, length));
+            }
+            finally
+            {
+                ArrayPool<byte>.Shared.Return(buffer);
+            }
+        }
+
+        public async Task<IReadOnlyList<Response>> ReadBatchResponseAsync(Stream stream)
+        {
+            var (buffer, length) = await ReadToPooledBufferAsync(stream);
+
+            try
+            {
+                return ParseBatchResponse(GetJson(buffer, length));
+            }
+            finally
+            {
+                ArrayPool<byte>.Shared.Return(buffer);
+            }
+        }
+
+        /// <summary>
+        ///    Parses a single RpcItem from UTF-8 encoded JSON
+        /// </summary>
+        public RpcItem ReadItem(ReadOnlySpan<byte> json)
+        {
+            var reader = new Utf8JsonReader(json);
+
+            reader.Read();
+
+            return ReadItem(ref reader);
+        }
+
+        /// <summary>
+        ///    Writes the RpcItem as UTF-8 encoded JSON
+        /// </summary>
+        public void WriteItem(Stream stream, RpcItem item)
+        {
+            using (var writer = new Utf8JsonWriter(stream, WriterOptions))
+            {
+                WriteItem(writer, item);
+            }
+        }
+
+        private static async Task<(byte[], int)> ReadToPooledBufferAsync(Stream stream)
+        {
+            var buffer = ArrayPool<byte>.Shared.Rent(InitialBufferSize);
+            var length = 0;
+
+            try
+            {
+                while (true)
+                {
+                    if (length == buffer.Length)
+                    {
+                        var newBuffer = ArrayPool<byte>.Shared.Rent(buffer.Length * 2);
+
+                        Buffer.BlockCopy(buffer, 0, newBuffer, 0, length);
+                        ArrayPool<byte>.Shared.Return(buffer);
+
+                        buffer = newBuffer;
+                    }
+
+                    var read = await stream.ReadAsync(buffer, length, buffer.Length - length);
+
+                    if (read == 0)
+                    {
+                        return (buffer, length);
+                    }
+
+                    length += read;
+                }
+            }
+            catch
+            {
+                ArrayPool<byte>.Shared.Return(buffer);
+
+                throw;
+            }
+        }
+
+        private static ReadOnlySpan<byte> GetJson(byte[] buffer, int length)
+        {
+            var json = new ReadOnlySpan<byte>(buffer, 0, length);
+
+            return json.StartsWith(Utf8Bom) ? json.Slice(Utf8Bom.Length) : json;
+        }
+
+        private static Response ParseResponse(ReadOnlySpan<byte> json)
+        {
+            var reader = new Utf8JsonReader(json);
+
+            reader.Read();
+
+            return ReadResponse(ref reader);
+        }
+
+        private static IReadOnlyList<Response> ParseBatchResponse(ReadOnlySpan<byte> json)
+        {
+            var reader = new Utf8JsonReader(json);
+
+            reader.Read();
+
+            // Node answers with a single response object, when it can not process the batch at all
+            if (reader.TokenType == JsonTokenType.StartObject)
+            {
+                var response = ReadResponse(ref reader);
+
+                if (response.Error != null)
+                {
+                    throw response.Error.ToException();
+                }
+
+                return new[] { response };
+            }
+
+            if (reader.TokenType != JsonTokenType.StartArray)
+            {
+                throw new JsonException("Batch response should be an array");
+            }
+
+            var responses = new List<Response>();
+
+            while (reader.Read() && reader.TokenType != JsonTokenType.EndArray)
+            {
+                responses.Add(ReadResponse(ref reader));
+            }
+
+            return responses;
+        }
+
+        private static Response ReadResponse(ref Utf8JsonReader reader)
+        {
+            if (reader.TokenType != JsonTokenType.StartObject)
+            {
+                throw new JsonException("Response should be an object");
+            }
+
+            var response = new Response();
+
+            while (reader.Read() && reader.TokenType != JsonTokenType.EndObject)
+            {
+                if (reader.ValueTextEquals(JsonrpcPropertyName))
+                {
+                    reader.Read();
+                    response.Jsonrpc = reader.GetString();
+                }
+                else if (reader.ValueTextEquals(MethodPropertyName))
+                {
+                    reader.Read();
+                    response.Method = reader.GetString();
+                }
+                else if (reader.ValueTextEquals(IdPropertyName))
+                {
+                    reader.Read();
+                    response.Id = reader.TokenType == JsonTokenType.Number ? reader.GetInt64() : 0;
+                }
+                else if (reader.ValueTextEquals(ResultPropertyName))
+                {
+                    reader.Read();
+                    response.Result = ReadItem(ref reader);
+                }
+                else if (reader.ValueTextEquals(ErrorPropertyName))
+                {
+                    reader.Read();
+                    response.Error = ReadError(ref reader);
+                }
+                else
+                {
+                    reader.Read();
+                    reader.Skip();
+                }
+            }
+
+            return response;
+        }
+
+        private static RpcError ReadError(ref Utf8JsonReader reader)
+        {
+            if (reader.TokenType == JsonTokenType.Null)
+            {
+                return null;
+            }
+
+            long code = 0;
+            string message = null;
+
+            while (reader.Read() && reader.TokenType != JsonTokenType.EndObject)
+            {
+                if (reader.ValueTextEquals(CodePropertyName))
+                {
+                    reader.Read();
+                    code = reader.GetInt64();
+                }
+                else if (reader.ValueTextEquals(MessagePropertyName))
+                {
+                    reader.Read();
+                    message = reader.GetString();
+                }
+                else
+                {
+                    reader.Read();
+                    reader.Skip();
+                }
+            }
+
+            return new RpcError(code, message);
+        }
+
+        private static RpcItem ReadItem(ref Utf8JsonReader reader)
+        {
+            switch (reader.TokenType)
+            {
+                case JsonTokenType.StartObject:
+                {
+                    var builder = new RpcObject.Builder();
+
+                    while (reader.Read() && reader.TokenType != JsonTokenType.EndObject)
+                    {
+                        var fieldName = reader.GetString();
+
+                        reader.Read();
+                        builder.Put(fieldName, ReadItem(ref reader));
+                    }
+
+                    return builder.Build();
+                }
+                case JsonTokenType.StartArray:
+                {
+                    var builder = new RpcArray.Builder();
+
+                    while (reader.Read() && reader.TokenType != JsonTokenType.EndArray)
+                    {
+                        builder.Add(ReadItem(ref reader));
+                    }
+
+                    return builder.Build();
+                }
+                case JsonTokenType.True:
+                    return new RpcValue(true);
+                case JsonTokenType.False:
+                    return new RpcValue(false);
+                case JsonTokenType.Number:
+                    return ReadNumber(ref reader);
+                case JsonTokenType.Null:
+                    return new RpcValue((string)null);
+                default:
+                    return new RpcValue(reader.GetString());
+            }
+        }
+
+        private static RpcValue ReadNumber(ref Utf8JsonReader reader)
+        {
+            if (reader.TryGetInt64(out var longValue))
+            {
+                return new RpcValue(new BigInteger(longValue));
+            }
+
+            var rawValue = reader.ValueSpan;
+
+            if (rawValue.IndexOfAny((byte)'.', (byte)'e', (byte)'E') < 0)
+            {
+                return new RpcValue(BigInteger.Parse(Encoding.UTF8.GetString(rawValue.ToArray()), CultureInfo.InvariantCulture));
+            }
+
+            // Newtonsoft reads floats as double and RpcItemSerializer keeps double.ToString() of it
+            return new RpcValue(reader.GetDouble().ToString());
+        }
+
+        private static void WriteRequest(Utf8JsonWriter writer, Request request)
+        {
+            writer.WriteStartObject();
+            writer.WriteString("jsonrpc", request.Jsonrpc);
+            writer.WriteNumber("id", request.Id);
+            writer.WriteString("method", request.Method);
+
+            if (request.Params != null)
+            {
+                writer.WritePropertyName("params");
+                WriteItem(writer, request.Params);
+            }
+
+            writer.WriteEndObject();
+        }
+
+        private static void WriteItem(Utf8JsonWriter writer, RpcItem item)
+        {
+            switch (item)
+            {
+                case null:
+                    writer.WriteNullValue();
+                    break;
+                case RpcObject @object:
+                    writer.WriteStartObject();
+
+                    foreach (var key in @object.GetKeys())
+                    {
+                        var childItem = @object.GetItem(key);
+                        if (childItem != null)
+                        {
+                            writer.WritePropertyName(key);
+                            WriteItem(writer, childItem);
+                        }
+                    }
+
+                    writer.WriteEndObject();
+                    break;
+                case RpcArray array:
+                    writer.WriteStartArray();
+
+                    foreach (var childItem in array)
+                    {
+                        WriteItem(writer, childItem);
+                    }
+
+                    writer.WriteEndArray();
+                    break;
+                default:
+                    var value = item.ToString();
+
+                    if (value == null)
+                    {
+                        writer.WriteNullValue();
+                    }
+                    else
+                    {
+                        writer.WriteStringValue(value);
+                    }
+
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    /// <summary>
+    ///    Counters of hedged requests in MultiNodeProvider
+    /// </summary>
+    [PublicAPI]
+    public class HedgingStatistics
+    {
+        public HedgingStatistics(long hedgesFired, long hedgesWon)
+        {
+            HedgesFired = hedgesFired;
+            HedgesWon = hedgesWon;
+        }
+
+        /// <summary>
+        ///    Number of duplicate requests sent because the first node was too slow
+        /// </summary>
+        public long HedgesFired { get; }
+
+        /// <summary>
+        ///    Number of duplicate requests, which answered successfully while the original one was still pending
+        /// </summary>
+        public long HedgesWon { get; }
+    }
+}
@@ -0,0 +1,77 @@
+using System;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    /// <summary>
+    ///    Keeps latencies of the most recent requests and calculates their percentile
+    /// </summary>
+    internal sealed class LatencyTracker
+    {
+        private const int WindowSize = 256;
+        private const int MinSampleCount = 20;
+        private const int RecalculationInterval = 16;
+
+        private readonly object _sync = new object();
+        private readonly double[] _samples = new double[WindowSize];
+        private readonly double[] _sortBuffer = new double[WindowSize];
+        private readonly double _percentile;
+
+        private int _count;
+        private int _position;
+        private int _samplesSinceRecalculation;
+        private TimeSpan? _cachedPercentile;
+
+        public LatencyTracker(double percentile)
+        {
+            if (percentile <= 0 || percentile >= 1)
+            {
+                throw new ArgumentException("Percentile should be between 0 and 1", nameof(percentile));
+            }
+
+            _percentile = percentile;
+        }
+
+        public void Add(TimeSpan latency)
+        {
+            lock (_sync)
+            {
+                _samples[_position] = latency.TotalMilliseconds;
+                _position = (_position + 1) % WindowSize;
+
+                if (_count < WindowSize)
+                {
+                    _count++;
+                }
+
+                _samplesSinceRecalculation++;
+            }
+        }
+
+        /// <summary>
+        ///    Returns the percentile of recent latencies or null, if there are too few samples yet
+        /// </summary>
+        public TimeSpan? GetPercentile()
+        {
+            lock (_sync)
+            {
+                if (_count < MinSampleCount)
+                {
+                    return null;
+                }
+
+                if (_cachedPercentile == null || _samplesSinceRecalculation >= RecalculationInterval)
+                {
+                    Array.Copy(_samples, _sortBuffer, _count);
+                    Array.Sort(_sortBuffer, 0, _count);
+
+                    var index = (int) Math.Ceiling(_percentile * _count) - 1;
+
+                    _cachedPercentile = TimeSpan.FromMilliseconds(_sortBuffer[Math.Max(0, index)]);
+                    _samplesSinceRecalculation = 0;
+                }
+
+                return _cachedPercentile;
+            }
+        }
+    }
+}
@@ -0,0 +1,379 @@
+using System;
+using System.Collections.Generic;
+using System.Diagnostics;
+using System.Linq;
+using System.Net.Http;
+using System.Threading;
+using System.Threading.Tasks;
+using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Transport.Http;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    /// <summary>
+    ///    Provider, which spreads requests over several nodes. Each request goes to the node with the least
+    ///    outstanding requests (the lowest average latency wins a tie). A node, which responds with 5xx or
+    ///    times out, is ejected for a while and read-only requests are retried on other nodes. Read-only
+    ///    requests can be hedged, see MultiNodeProviderOptions.EnableHedging.
+    /// </summary>
+    [PublicAPI]
+    public class MultiNodeProvider : IProvider
+    {
+        private readonly NodeState[] _nodes;
+        private readonly MultiNodeProviderOptions _options;
+        private readonly LatencyTracker _latencyTracker;
+
+        private long _hedgesFired;
+        private long _hedgesWon;
+
+        public MultiNodeProvider(HttpClient httpClient, IEnumerable<string> urls)
+            : this(httpClient, urls, new MultiNodeProviderOptions())
+        {
+
+        }
+
+        public MultiNodeProvider(HttpClient httpClient, IEnumerable<string> urls, MultiNodeProviderOptions options)
+            : this(urls.Select(url => (IProvider) new HttpProvider(httpClient, url)).ToList(), options)
+        {
+
+        }
+
+        public MultiNodeProvider(IReadOnlyList<IProvider> nodes, MultiNodeProviderOptions options)
+        {
+            if (nodes == null || nodes.Count == 0)
+            {
+                throw new ArgumentException("At least one node should be specified", nameof(nodes));
+            }
+
+            var preferredNode = options.PreferredSendTransactionNode;
+
+            if (preferredNode.HasValue && (preferredNode < 0 || preferredNode >= nodes.Count))
+            {
+                throw new ArgumentException($"Preferred node index {preferredNode} is out of range", nameof(options));
+            }
+
+            _nodes = nodes.Select((node, index) => new NodeState(index, node)).ToArray();
+            _options = options;
+
+            if (options.HedgingLatencyPercentile.HasValue)
+            {
+                _latencyTracker = new LatencyTracker(options.HedgingLatencyPercentile.Value);
+            }
+        }
+
+        /// <exception cref="HttpRequestException">Is thrown in a case when all attempted nodes failed or no node can take the request</exception>
+        /// <exception cref="TimeoutException">Is thrown in a case when the last attempted node timed out</exception>
+        public Task<T> SendRequestAsync<T>(Request request, IRpcConverter<T> converter)
+        {
+            return SendAsync
+            (
+                provider => provider.SendRequestAsync(request, converter),
+                RpcMethods.IsReadOnly(request.Method),
+                request.Method == RpcMethods.SendTransaction
+            );
+        }
+
+        /// <exception cref="HttpRequestException">Is thrown in a case when all attempted nodes failed or no node can take the request</exception>
+        /// <exception cref="TimeoutException">Is thrown in a case when the last attempted node timed out</exception>
+        public Task<IReadOnlyList<BatchResult<T>>> SendBatchRequestAsync<T>(IReadOnlyList<Request> requests, IRpcConverter<T> converter)
+        {
+            if (requests == null)
+            {
+                throw new ArgumentNullException(nameof(requests));
+            }
+
+            return SendAsync
+            (
+                provider => provider.SendBatchRequestAsync(requests, converter),
+                requests.All(x => RpcMethods.IsReadOnly(x.Method)),
+                requests.Any(x => x.Method == RpcMethods.SendTransaction)
+            );
+        }
+
+        /// <summary>
+        ///    Returns current state of the nodes in the order they were passed to the constructor
+        /// </summary>
+        public IReadOnlyList<NodeStatistics> GetNodeStatistics()
+        {
+            var now = DateTime.UtcNow;
+
+            return _nodes.Select(x => x.GetStatistics(now)).ToList();
+        }
+
+        public HedgingStatistics GetHedgingStatistics()
+        {
+            return new HedgingStatistics
+            (
+                Interlocked.Read(ref _hedgesFired),
+                Interlocked.Read(ref _hedgesWon)
+            );
+        }
+
+        private Task<TResult> SendAsync<TResult>(Func<IProvider, Task<TResult>> send, bool isReadOnly, bool isTransaction)
+        {
+            var triedNodes = new bool[_nodes.Length];
+            var node = SelectNode(triedNodes, isTransaction);
+
+            if (node == null)
+            {
+                return Task.FromException<TResult>(new HttpRequestException("All nodes are ejected and already being probed"));
+            }
+
+            if (isReadOnly && _options.EnableHedging && _nodes.Length > 1)
+            {
+                return SendHedgedAsync(send, triedNodes, node);
+            }
+
+            return SendWithFailoverAsync(send, isReadOnly, isTransaction, triedNodes, node, 1);
+        }
+
+        private async Task<TResult> SendWithFailoverAsync<TResult>(Func<IProvider, Task<TResult>> send, bool isReadOnly, bool isTransaction,
+            bool[] triedNodes, NodeState node, int firstAttempt)
+        {
+            var maxAttempts = GetMaxAttempts(isReadOnly);
+
+            for (var attempt = firstAttempt; ; attempt++)
+            {
+                triedNodes[node.Index] = true;
+
+                try
+                {
+                    return await SendToNodeAsync(node, send);
+                }
+                catch (Exception e) when (IsNodeFailure(e) && attempt < maxAttempts)
+                {
+                    node = SelectNode(triedNodes, isTransaction);
+
+                    if (node == null)
+                    {
+                        // No node can take the retry, the failure of the last one is reported
+                        throw;
+                    }
+                }
+            }
+        }
+
+        private async Task<TResult> SendHedgedAsync<TResult>(Func<IProvider, Task<TResult>> send, bool[] triedNodes, NodeState primaryNode)
+        {
+            triedNodes[primaryNode.Index] = true;
+
+            var primaryTask = SendToNodeAsync(primaryNode, send);
+
+            using (var delayCancellation = new CancellationTokenSource())
+            {
+                var delay = Task.Delay(GetHedgingDelay(), delayCancellation.Token);
+
+                if (await Task.WhenAny(primaryTask, delay) == primaryTask)
+                {
+                    delayCancellation.Cancel();
+
+                    return await AwaitWithFailoverAsync(primaryTask, send, triedNodes, 1);
+                }
+            }
+
+            var hedgeNode = TrySelectAvailableNode(triedNodes);
+
+            if (hedgeNode == null)
+            {
+                return await AwaitWithFailoverAsync(primaryTask, send, triedNodes, 1);
+            }
+
+            triedNodes[hedgeNode.Index] = true;
+
+            Interlocked.Increment(ref _hedgesFired);
+
+            var hedgeTask = SendToNodeAsync(hedgeNode, send);
+            var firstTask = await Task.WhenAny(primaryTask, hedgeTask);
+            var secondTask = firstTask == primaryTask ? hedgeTask : primaryTask;
+
+            if (firstTask.Status == TaskStatus.RanToCompletion)
+            {
+                // The hedge wins only if it answered while the primary was still pending,
+                // WhenAny may pick it when both have completed already
+                if (firstTask == hedgeTask && !primaryTask.IsCompleted)
+                {
+                    Interlocked.Increment(ref _hedgesWon);
+                }
+
+                // Answer of the slower node is not needed anymore, but its failure should still be observed
+                ObserveFailure(secondTask);
+
+                return await firstTask;
+            }
+
+            // The first answer is a failure, so the result depends on the other node and no hedge is won
+            ObserveFailure(firstTask);
+
+            return await AwaitWithFailoverAsync(secondTask, send, triedNodes, 2);
+        }
+
+        /// <summary>
+        ///    Awaits a read-only request, which is already sent, and continues with the next nodes if it fails.
+        ///    So a node, which fails after the hedging delay, gets as many attempts as the one which fails fast.
+        /// </summary>
+        private async Task<TResult> AwaitWithFailoverAsync<TResult>(Task<TResult> task, Func<IProvider, Task<TResult>> send,
+            bool[] triedNodes, int attemptsMade)
+        {
+            try
+            {
+                return await task;
+            }
+            catch (Exception e) when (IsNodeFailure(e) && attemptsMade < GetMaxAttempts(true))
+            {
+                var nextNode = SelectNode(triedNodes, false);
+
+                if (nextNode == null)
+                {
+                    throw;
+                }
+
+                return await SendWithFailoverAsync(send, true, false, triedNodes, nextNode, attemptsMade + 1);
+            }
+        }
+
+        private int GetMaxAttempts(bool isReadOnly)
+        {
+            return isReadOnly
+                ? Math.Max(1, Math.Min(_options.MaxAttempts, _nodes.Length))
+                : 1;
+        }
+
+        private TimeSpan GetHedgingDelay()
+        {
+            return _latencyTracker?.GetPercentile() ?? _options.HedgingDelay;
+        }
+
+        private NodeState TrySelectAvailableNode(bool[] triedNodes)
+        {
+            var now = DateTime.UtcNow;
+            var candidates = _nodes
+                .Where(x => !triedNodes[x.Index])
+                .OrderBy(x => x.OutstandingRequests)
+                .ThenBy(x => x.LatencyMilliseconds);
+
+            foreach (var candidate in candidates)
+            {
+                if (candidate.TryAcquire(now))
+                {
+                    return candidate;
+                }
+            }
+
+            return null;
+        }
+
+        private NodeState SelectNode(bool[] triedNodes, bool isTransaction)
+        {
+            var now = DateTime.UtcNow;
+            var preferredNode = _options.PreferredSendTransactionNode;
+
+            if (isTransaction && preferredNode.HasValue)
+            {
+                var node = _nodes[preferredNode.Value];
+
+                if (node.TryAcquire(now))
+                {
+                    return node;
+                }
+            }
+
+            var availableNode = TrySelectAvailableNode(triedNodes);
+
+            if (availableNode != null)
+            {
+                return availableNode;
+            }
+
+            // All remaining nodes are ejected. The one which comes back first is probed before its ejection time
+            // is over, still one request at a time, so callers do not pile up on a node which is likely down.
+            var ejectedNodes = _nodes
+                .Where(x => !triedNodes[x.Index])
+                .OrderBy(x => x.EjectedUntil ?? DateTime.MinValue);
+
+            foreach (var node in ejectedNodes)
+            {
+                if (node.TryAcquireEarly())
+                {
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        private async Task<TResult> SendToNodeAsync<TResult>(NodeState node, Func<IProvider, Task<TResult>> send)
+        {
+            var stopwatch = Stopwatch.StartNew();
+
+            node.OnRequestStarted();
+
+            try
+            {
+                var result = await WithTimeout(send(node.Provider));
+
+                node.OnRequestSucceeded(stopwatch.Elapsed);
+
+                _latencyTracker?.Add(stopwatch.Elapsed);
+
+                return result;
+            }
+            catch (RpcErrorException)
+            {
+                // Node is healthy, it just rejected the request
+                node.OnRequestSucceeded(stopwatch.Elapsed);
+
+                throw;
+            }
+            catch (Exception e) when (IsNodeFailure(e))
+            {
+                node.OnRequestFailed(DateTime.UtcNow + _options.EjectionTime);
+
+                throw;
+            }
+            catch
+            {
+                node.OnRequestCompleted();
+
+                throw;
+            }
+        }
+
+        private async Task<TResult> WithTimeout<TResult>(Task<TResult> task)
+        {
+            if (_options.RequestTimeout == null)
+            {
+                return await task;
+            }
+
+            using (var delayCancellation = new CancellationTokenSource())
+            {
+                var delay = Task.Delay(_options.RequestTimeout.Value, delayCancellation.Token);
+
+                if (await Task.WhenAny(task, delay) != task)
+                {
+                    // Request is abandoned, but its failure should still be observed
+                    ObserveFailure(task);
+
+                    throw new TimeoutException($"Node has not responded in {_options.RequestTimeout.Value}");
+                }
+
+                delayCancellation.Cancel();
+
+                return await task;
+            }
+        }
+
+        private static void ObserveFailure(Task task)
+        {
+            _ = task.ContinueWith(x => x.Exception, TaskContinuationOptions.OnlyOnFaulted);
+        }
+
+        private static bool IsNodeFailure(Exception e)
+        {
+            return e is HttpRequestException
+                || e is TimeoutException
+                || e is TaskCanceledException;
+        }
+    }
+}
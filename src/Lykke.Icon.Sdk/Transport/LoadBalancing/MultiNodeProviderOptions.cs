@@ -0,0 +1,53 @@
+using System;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    /// <summary>
+    ///    Optional settings of MultiNodeProvider
+    /// </summary>
+    [PublicAPI]
+    public class MultiNodeProviderOptions
+    {
+        /// <summary>
+        ///    Index of the node, which receives icx_sendTransaction requests while it is healthy.
+        ///    Transactions are load-balanced as any other request if not set.
+        /// </summary>
+        public int? PreferredSendTransactionNode { get; set; }
+
+        /// <summary>
+        ///    How long a node stays out of rotation after a 5xx response or a timeout. After that
+        ///    the node receives a single probe request and returns to rotation if it succeeds.
+        /// </summary>
+        public TimeSpan EjectionTime { get; set; } = TimeSpan.FromSeconds(30);
+
+        /// <summary>
+        ///    Time after which a node request is considered timed out. HttpClient timeout applies if not set.
+        /// </summary>
+        public TimeSpan? RequestTimeout { get; set; }
+
+        /// <summary>
+        ///    Max number of nodes a read-only request is tried on before the failure is reported.
+        ///    icx_sendTransaction is never retried.
+        /// </summary>
+        public int MaxAttempts { get; set; } = 3;
+
+        /// <summary>
+        ///    Enables hedging of read-only requests: if a node has not answered in HedgingDelay, the same
+        ///    request is sent to another node and the first successful answer is taken.
+        ///    icx_sendTransaction is never hedged.
+        /// </summary>
+        public bool EnableHedging { get; set; }
+
+        /// <summary>
+        ///    Delay before a hedged request is sent. Is used until enough latencies are observed,
+        ///    if HedgingLatencyPercentile is set.
+        /// </summary>
+        public TimeSpan HedgingDelay { get; set; } = TimeSpan.FromMilliseconds(500);
+
+        /// <summary>
+        ///    Percentile of observed latencies (e.g. 0.95), which is used as the hedging delay instead of HedgingDelay.
+        /// </summary>
+        public double? HedgingLatencyPercentile { get; set; }
+    }
+}
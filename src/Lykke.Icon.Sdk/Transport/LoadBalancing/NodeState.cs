@@ -0,0 +1,156 @@
+using System;
+using System.Threading;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    internal sealed class NodeState
+    {
+        private const double LatencySmoothingFactor = 0.2;
+
+        private readonly object _sync = new object();
+        
+        private int _outstandingRequests;
+        private double _latencyMilliseconds;
+        private DateTime? _ejectedUntil;
+        private bool _isProbing;
+
+        public NodeState(int index, IProvider provider)
+        {
+            Index = index;
+            Provider = provider;
+        }
+
+        public int Index { get; }
+
+        public IProvider Provider { get; }
+
+        public int OutstandingRequests => Volatile.Read(ref _outstandingRequests);
+
+        public double LatencyMilliseconds
+        {
+            get
+            {
+                lock (_sync)
+                {
+                    return _latencyMilliseconds;
+                }
+            }
+        }
+
+        public DateTime? EjectedUntil
+        {
+            get
+            {
+                lock (_sync)
+                {
+                    return _ejectedUntil;
+                }
+            }
+        }
+
+        /// <summary>
+        ///    Checks if the node can take a request. Once ejection time is over, only one probe request
+        ///    is let through until it completes.
+        /// </summary>
+        public bool TryAcquire(DateTime now)
+        {
+            lock (_sync)
+            {
+                if (_ejectedUntil == null)
+                {
+                    return true;
+                }
+
+                if (_ejectedUntil > now || _isProbing)
+                {
+                    return false;
+                }
+
+                _isProbing = true;
+
+                return true;
+            }
+        }
+
+        /// <summary>
+        ///    Lets a request through before the ejection time is over, which is used when all nodes are ejected.
+        ///    As with a regular probe, only one request is let through until it completes.
+        /// </summary>
+        public bool TryAcquireEarly()
+        {
+            lock (_sync)
+            {
+                if (_ejectedUntil == null)
+                {
+                    return true;
+                }
+
+                if (_isProbing)
+                {
+                    return false;
+                }
+
+                _isProbing = true;
+
+                return true;
+            }
+        }
+
+        public void OnRequestStarted()
+        {
+            Interlocked.Increment(ref _outstandingRequests);
+        }
+
+        public void OnRequestSucceeded(TimeSpan latency)
+        {
+            Interlocked.Decrement(ref _outstandingRequests);
+
+            lock (_sync)
+            {
+                _latencyMilliseconds = _latencyMilliseconds == 0
+                    ? latency.TotalMilliseconds
+                    : _latencyMilliseconds + LatencySmoothingFactor * (latency.TotalMilliseconds - _latencyMilliseconds);
+                _ejectedUntil = null;
+                _isProbing = false;
+            }
+        }
+
+        public void OnRequestFailed(DateTime ejectedUntil)
+        {
+            Interlocked.Decrement(ref _outstandingRequests);
+
+            lock (_sync)
+            {
+                _ejectedUntil = ejectedUntil;
+                _isProbing = false;
+            }
+        }
+
+        /// <summary>
+        ///    Completes the request, which failed for a reason unrelated to the node health
+        /// </summary>
+        public void OnRequestCompleted()
+        {
+            Interlocked.Decrement(ref _outstandingRequests);
+
+            lock (_sync)
+            {
+                _isProbing = false;
+            }
+        }
+
+        public NodeStatistics GetStatistics(DateTime now)
+        {
+            lock (_sync)
+            {
+                return new NodeStatistics
+                (
+                    Index,
+                    OutstandingRequests,
+                    TimeSpan.FromMilliseconds(_latencyMilliseconds),
+                    _ejectedUntil != null && _ejectedUntil > now
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+using System;
+using JetBrains.Annotations;
+
+namespace Lykke.Icon.Sdk.Transport.LoadBalancing
+{
+    /// <summary>
+    ///    Snapshot of the node state in MultiNodeProvider
+    /// </summary>
+    [PublicAPI]
+    public class NodeStatistics
+    {
+        public NodeStatistics(int index, int outstandingRequests, TimeSpan latency, bool isEjected)
+        {
+            Index = index;
+            OutstandingRequests = outstandingRequests;
+            Latency = latency;
+            IsEjected = isEjected;
+        }
+
+        public int Index { get; }
+
+        public int OutstandingRequests { get; }
+
+        /// <summary>
+        ///    Exponentially weighted moving average of successful request latency
+        /// </summary>
+        public TimeSpan Latency { get; }
+
+        public bool IsEjected { get; }
+    }
+}
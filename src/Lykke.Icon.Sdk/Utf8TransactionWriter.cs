@@ -0,0 +1,146 @@
+using System;
+using System.Buffers;
+using System.Text;
+
+namespace Lykke.Icon.Sdk
+{
+    /// <summary>
+    ///    Growable UTF-8 buffer for the serialized transaction. The buffer is rented from the shared pool
+    ///    and is reused between transactions.
+    /// </summary>
+    internal sealed class Utf8TransactionWriter : IDisposable
+    {
+        private const int InitialCapacity = 1024;
+        private const int MaxRetainedCapacity = 64 * 1024;
+
+        private byte[] _buffer;
+        private int _length;
+
+        public Utf8TransactionWriter()
+        {
+            _buffer = ArrayPool<byte>.Shared.Rent(InitialCapacity);
+        }
+
+        public byte[] Buffer => _buffer;
+
+        public int Length => _length;
+
+        /// <summary>
+        ///    Clears the written data. Unusually large buffer is given back to the pool.
+        /// </summary>
+        public void Reset()
+        {
+            _length = 0;
+
+            if (_buffer.Length > MaxRetainedCapacity)
+            {
+                ArrayPool<byte>.Shared.Return(_buffer);
+
+                _buffer = ArrayPool<byte>.Shared.Rent(InitialCapacity);
+            }
+        }
+
+        public void WriteAscii(char value)
+        {
+            EnsureCapacity(1);
+
+            _buffer[_length++] = (byte) value;
+        }
+
+        public void WriteString(string value)
+        {
+            WriteUtf8(value, 0, value.Length);
+        }
+
+        /// <summary>
+        ///    Writes the value escaped with TransactionEscaper rules
+        /// </summary>
+        public void WriteEscaped(string value)
+        {
+            var segmentStart = 0;
+
+            for (var i = 0; i < value.Length; i++)
+            {
+                var c = value[i];
+
+                if (TransactionEscaper.NeedsEscape(c))
+                {
+                    // Escaped characters are ASCII, so a segment never splits a surrogate pair
+                    WriteUtf8(value, segmentStart, i - segmentStart);
+                    WriteAscii('\\');
+                    WriteAscii(c);
+
+                    segmentStart = i + 1;
+                }
+            }
+
+            WriteUtf8(value, segmentStart, value.Length - segmentStart);
+        }
+
+        public void Dispose()
+        {
+            var buffer = _buffer;
+
+            _buffer = null;
+
+            if (buffer != null)
+            {
+                ArrayPool<byte>.Shared.Return(buffer);
+            }
+        }
+
+        private void WriteUtf8(string value, int index, int count)
+        {
+            if (count == 0)
+            {
+                return;
+            }
+
+            EnsureCapacity(count);
+
+            // Transaction fields are almost always ASCII, so they are copied without the encoder
+            var end = index + count;
+            var position = _length;
+
+            for (; index < end; index++)
+            {
+                var c = value[index];
+
+                if (c >= 0x80)
+                {
+                    break;
+                }
+
+                _buffer[position++] = (byte) c;
+            }
+
+            _length = position;
+
+            if (index < end)
+            {
+                var remaining = end - index;
+
+                EnsureCapacity(Encoding.UTF8.GetMaxByteCount(remaining));
+
+                _length += Encoding.UTF8.GetBytes(value, index, remaining, _buffer, _length);
+            }
+        }
+
+        private void EnsureCapacity(int additionalLength)
+        {
+            var requiredLength = _length + additionalLength;
+
+            if (requiredLength <= _buffer.Length)
+            {
+                return;
+            }
+
+            var newBuffer = ArrayPool<byte>.Shared.Rent(Math.Max(requiredLength, _buffer.Length * 2));
+
+            System.Buffer.BlockCopy(_buffer, 0, newBuffer, 0, _length);
+            ArrayPool<byte>.Shared.Return(_buffer);
+
+            _buffer = newBuffer;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+using System;
+using System.Collections.Generic;
+using System.Numerics;
+using System.Threading;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Moq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests
+{
+    public class BlockFollowerTest
+    {
+        private static readonly BlockFollowerOptions Options = new BlockFollowerOptions
+        {
+            MinPollingInterval = TimeSpan.FromMilliseconds(5),
+            MaxPollingInterval = TimeSpan.FromMilliseconds(20),
+            MaxConcurrency = 4
+        };
+
+        [Fact]
+        public async Task TestFollowerCatchesUpAndFollowsTip()
+        {
+            var chain = new StubChain(tipHeight: 6);
+            var follower = new BlockFollower(new IconService(chain.Provider), Options);
+            var heights = new List<BigInteger>();
+
+            using (var cancellation = new CancellationTokenSource(TimeSpan.FromSeconds(10)))
+            {
+                await foreach (var block in follower.FollowAsync(2, cancellation.Token))
+                {
+                    heights.Add(block.GetHeight());
+
+                    if (block.GetHeight() == 6)
+                    {
+                        // Tip moves while the consumer waits
+                        chain.TipHeight = 8;
+                    }
+
+                    if (block.GetHeight() == 8)
+                    {
+                        break;
+                    }
+                }
+            }
+
+            Assert.Equal(new BigInteger[] { 3, 4, 5, 6, 7, 8 }, heights);
+        }
+
+        [Fact]
+        public async Task TestFailedTipPollsAreRetried()
+        {
+            var chain = new StubChain(tipHeight: 4) { FailingTipPolls = 3 };
+            var follower = new BlockFollower(new IconService(chain.Provider), Options);
+            var heights = new List<BigInteger>();
+
+            using (var cancellation = new CancellationTokenSource(TimeSpan.FromSeconds(10)))
+            {
+                await foreach (var block in follower.FollowAsync(2, cancellation.Token))
+                {
+                    heights.Add(block.GetHeight());
+
+                    if (block.GetHeight() == 4)
+                    {
+                        break;
+                    }
+                }
+            }
+
+            Assert.Equal(new BigInteger[] { 3, 4 }, heights);
+            Assert.Equal(0, chain.FailingTipPolls);
+        }
+
+        [Fact]
+        public async Task TestBrokenLinkageIsDetected()
+        {
+            var chain = new StubChain(tipHeight: 5) { ForkedHeight = 4 };
+            var follower = new BlockFollower(new IconService(chain.Provider), Options);
+
+            var exception = await Assert.ThrowsAsync<BlockLinkageException>(async () =>
+            {
+                await foreach (var block in follower.FollowAsync(1))
+                {
+                }
+            });
+
+            Assert.Equal(new BigInteger(4), exception.Height);
+        }
+
+        private class StubChain
+        {
+            public StubChain(int tipHeight)
+            {
+                TipHeight = tipHeight;
+                ForkedHeight = -1;
+
+                var provider = new Mock<IProvider>();
+                provider
+                    .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Block>>()))
+                    .Returns((Request request, IRpcConverter<Block> converter) =>
+                    {
+                        if (request.Method == RpcMethods.GetLastBlock && FailingTipPolls > 0)
+                        {
+                            FailingTipPolls--;
+
+                            return Task.FromException<Block>(new TimeoutException("Tip poll timed out"));
+                        }
+
+                        var height = request.Method == RpcMethods.GetLastBlock
+                            ? TipHeight
+                            : (int) request.Params.GetItem("height").ToInteger();
+
+                        return Task.FromResult(CreateBlock(height));
+                    });
+
+                Provider = provider.Object;
+            }
+
+            public IProvider Provider { get; }
+
+            public int TipHeight { get; set; }
+
+            public int ForkedHeight { get; set; }
+
+            public int FailingTipPolls { get; set; }
+
+            private Block CreateBlock(int height)
+            {
+                var prevBlockHash = height == ForkedHeight
+                    ? GetHash(height - 1, 0xff)
+                    : GetHash(height - 1, 0);
+
+                return new Block(new RpcObject.Builder()
+                    .Put("height", new RpcValue(new BigInteger(height)))
+                    .Put("block_hash", new RpcValue(GetHash(height, 0)))
+                    .Put("prev_block_hash", new RpcValue(prevBlockHash))
+                    .Build());
+            }
+
+            private static Bytes GetHash(int height, byte fork)
+            {
+                var hash = new byte[32];
+
+                hash[0] = fork;
+                hash[31] = (byte) height;
+
+                return new Bytes(hash);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+using System.Numerics;
+using Lykke.Icon.Sdk.Caching;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Caching
+{
+    public class BlockCacheTest
+    {
+        [Fact]
+        public void TestBlockIsReachableByHeightAndHash()
+        {
+            var cache = new BlockCache(10, block => 1);
+            var original = CreateBlock(1);
+
+            cache.Add(original);
+
+            Assert.True(cache.TryGet(new BigInteger(1), out var byHeight));
+            Assert.Same(original, byHeight);
+            Assert.True(cache.TryGet(GetHash(1), out var byHash));
+            Assert.Same(original, byHash);
+            Assert.False(cache.TryGet(new BigInteger(2), out _));
+
+            var statistics = cache.GetStatistics();
+            Assert.Equal(2, statistics.Hits);
+            Assert.Equal(1, statistics.Misses);
+        }
+
+        [Fact]
+        public void TestLeastRecentlyUsedBlockIsEvicted()
+        {
+            var cache = new BlockCache(3, block => 1);
+
+            cache.Add(CreateBlock(1));
+            cache.Add(CreateBlock(2));
+            cache.Add(CreateBlock(3));
+
+            // Block 1 becomes the most recently used one
+            Assert.True(cache.TryGet(new BigInteger(1), out _));
+
+            cache.Add(CreateBlock(4));
+
+            Assert.True(cache.TryGet(new BigInteger(1), out _));
+            Assert.False(cache.TryGet(new BigInteger(2), out _));
+            Assert.False(cache.TryGet(GetHash(2), out _));
+            Assert.True(cache.TryGet(new BigInteger(3), out _));
+            Assert.True(cache.TryGet(new BigInteger(4), out _));
+
+            var statistics = cache.GetStatistics();
+            Assert.Equal(1, statistics.Evictions);
+            Assert.Equal(3, statistics.Count);
+            Assert.Equal(3, statistics.Weight);
+        }
+
+        [Fact]
+        public void TestWeightBudgetIsRespected()
+        {
+            var cache = new BlockCache(5, block => (long) block.GetHeight());
+
+            cache.Add(CreateBlock(2));
+            cache.Add(CreateBlock(3));
+            cache.Add(CreateBlock(4));
+            cache.Add(CreateBlock(6));
+
+            Assert.False(cache.TryGet(new BigInteger(2), out _));
+            Assert.False(cache.TryGet(new BigInteger(3), out _));
+            Assert.True(cache.TryGet(new BigInteger(4), out _));
+            Assert.False(cache.TryGet(new BigInteger(6), out _));
+            Assert.Equal(4, cache.GetStatistics().Weight);
+        }
+
+        private static Block CreateBlock(int height)
+        {
+            var properties = new RpcObject.Builder()
+                .Put("height", new RpcValue(new BigInteger(height)))
+                .Put("block_hash", new RpcValue(GetHash(height)))
+                .Build();
+
+            return new Block(properties);
+        }
+
+        private static Bytes GetHash(int height)
+        {
+            return new Bytes("0x" + height.ToString("x64"));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+using System;
+using System.Linq;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Crypto;
+using Org.BouncyCastle.Crypto.Digests;
+using Org.BouncyCastle.Utilities.Encoders;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Crypto
+{
+    public class Sha3HasherTest
+    {
+        [Theory]
+        [InlineData(0)]
+        [InlineData(1)]
+        [InlineData(64)]
+        [InlineData(1024)]
+        [InlineData(1025)]
+        [InlineData(10_000)]
+        public void TestHashMatchesReferenceDigest(int length)
+        {
+            var data = CreateData(length);
+            var expectedHash = ReferenceHash(data);
+            var spanHash = new byte[Sha3Hasher.HashSize + 4];
+
+            Sha3Hasher.Hash(new ReadOnlySpan<byte>(data), spanHash.AsSpan(2));
+
+            Assert.Equal(expectedHash, Sha3Hasher.Hash(data));
+            Assert.Equal(expectedHash, spanHash.Skip(2).Take(Sha3Hasher.HashSize).ToArray());
+        }
+
+        [Fact]
+        public void TestHashOfArraySegment()
+        {
+            var data = CreateData(100);
+
+            Assert.Equal(ReferenceHash(data.Skip(10).Take(50).ToArray()), Sha3Hasher.Hash(data, 10, 50));
+        }
+
+        [Fact]
+        public void TestKnownHash()
+        {
+            Assert.Equal
+            (
+                "a7ffc6f8bf1ed76651c14756a061d662f580ff4de43b49fa82d80a4b80f8434a",
+                Hex.ToHexString(Sha3Hasher.Hash(new byte[0]))
+            );
+        }
+
+        [Fact]
+        public void TestShortDestinationIsRejected()
+        {
+            Assert.Throws<ArgumentException>(() => Sha3Hasher.Hash(new byte[1], 0, 1, new byte[Sha3Hasher.HashSize - 1]));
+        }
+
+        [Theory]
+        [InlineData(-1, 1)]
+        [InlineData(0, -1)]
+        [InlineData(0, 11)]
+        [InlineData(5, 6)]
+        [InlineData(11, 0)]
+        public void TestInvalidRangeIsRejectedAndDigestStaysClean(int offset, int count)
+        {
+            var data = CreateData(10);
+
+            Assert.Throws<ArgumentOutOfRangeException>(() => Sha3Hasher.Hash(data, offset, count));
+
+            // The next hash on the same thread is not affected by the failed call
+            Assert.Equal(ReferenceHash(data), Sha3Hasher.Hash(data));
+        }
+
+        [Fact]
+        public void TestConcurrentHashing()
+        {
+            var inputs = Enumerable.Range(0, 1000).Select(CreateData).ToArray();
+            var hashes = new byte[inputs.Length][];
+
+            Parallel.For(0, inputs.Length, i => hashes[i] = Sha3Hasher.Hash(inputs[i]));
+
+            for (var i = 0; i < inputs.Length; i++)
+            {
+                Assert.Equal(ReferenceHash(inputs[i]), hashes[i]);
+            }
+        }
+
+        [Fact]
+        public void TestAddressHashMatchesTruncatedHash()
+        {
+            var publicKey = CreateData(64);
+            var destination = new byte[20];
+
+            IconKeys.GetAddressHash(publicKey, destination);
+
+            Assert.Equal(ReferenceHash(publicKey).Skip(12).ToArray(), IconKeys.GetAddressHash(publicKey));
+            Assert.Equal(ReferenceHash(publicKey).Skip(12).ToArray(), destination);
+        }
+
+        private static byte[] CreateData(int length)
+        {
+            var data = new byte[length];
+
+            new Random(length).NextBytes(data);
+
+            return data;
+        }
+
+        private static byte[] ReferenceHash(byte[] data)
+        {
+            var digest = new Sha3Digest(256);
+            var output = new byte[digest.GetDigestSize()];
+
+            digest.BlockUpdate(data, 0, data.Length);
+            digest.DoFinal(output, 0);
+
+            return output;
+        }
+    }
+}
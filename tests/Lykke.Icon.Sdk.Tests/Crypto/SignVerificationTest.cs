@@ -1,4 +1,7 @@
+using System;
+using System.Collections.Generic;
 using System.Globalization;
+using System.Linq;
 using System.Numerics;
 using Lykke.Icon.Sdk.Crypto;
 using Lykke.Icon.Sdk.Data;
@@ -96,5 +99,84 @@ public void CheckVerificationMalformedSignature()
             var result = EcdsaSignature.VerifySignature(randomKey.GetAddress(), signature, hash);
             Assert.False(result);
         }
+
+        [Fact]
+        public void CheckBulkVerificationWithCache()
+        {
+            var otherWallet = KeyWallet.Create();
+            var requests = new List<SignatureVerificationRequest>();
+
+            for (var i = 0; i < 16; i++)
+            {
+                var hash = Enumerable.Repeat((byte) i, 32).ToArray();
+                var signature = wallet.Sign(hash);
+
+                // Every second signature is checked against a wrong signer
+                var signer = i % 2 == 0 ? wallet.GetAddress() : otherWallet.GetAddress();
+
+                requests.Add(new SignatureVerificationRequest(signer, signature, hash));
+            }
+
+            var cache = new VerifiedSignatureCache(1024);
+            var expected = requests.Select((x, i) => i % 2 == 0).ToArray();
+
+            Assert.Equal(expected, EcdsaSignature.VerifySignatures(requests, 4, cache));
+            Assert.Equal(0, cache.GetHits());
+
+            // Signer is cached, but the expected address is still compared
+            Assert.Equal(expected, EcdsaSignature.VerifySignatures(requests, 4, cache));
+            Assert.Equal(16, cache.GetHits());
+        }
+
+        [Fact]
+        public void CheckCacheGenerationsAreRotated()
+        {
+            var requests = new List<SignatureVerificationRequest>();
+
+            for (var i = 0; i < 10; i++)
+            {
+                var hash = Enumerable.Repeat((byte) i, 32).ToArray();
+
+                requests.Add(new SignatureVerificationRequest(wallet.GetAddress(), wallet.Sign(hash), hash));
+            }
+
+            var cache = new VerifiedSignatureCache(4);
+
+            // Generations are swapped after the 4th and the 8th entries, so only the last entries are kept
+            Assert.All(EcdsaSignature.VerifySignatures(requests, 1, cache), Assert.True);
+            Assert.All(EcdsaSignature.VerifySignatures(requests.Skip(8).ToList(), 1, cache), Assert.True);
+            Assert.All(EcdsaSignature.VerifySignatures(requests.Take(1).ToList(), 1, cache), Assert.True);
+
+            Assert.Equal(2, cache.GetHits());
+            Assert.Equal(11, cache.GetMisses());
+        }
+
+        [Fact]
+        public void CheckBulkVerificationWithMalformedRequests()
+        {
+            var requests = new List<SignatureVerificationRequest>();
+
+            for (var i = 0; i < 8; i++)
+            {
+                var hash = Enumerable.Repeat((byte) i, 32).ToArray();
+
+                requests.Add(new SignatureVerificationRequest(wallet.GetAddress(), wallet.Sign(hash), hash));
+            }
+
+            var offCurveSignature = (byte[]) requests[3].Signature.Clone();
+
+            // x = 5 is not on secp256k1, so R can not be decompressed
+            Array.Clear(offCurveSignature, 0, 32);
+            offCurveSignature[31] = 5;
+
+            requests[1] = new SignatureVerificationRequest(null, requests[1].Signature, requests[1].Data);
+            requests[2] = new SignatureVerificationRequest(wallet.GetAddress(), requests[2].Signature.Take(64).ToArray(), requests[2].Data);
+            requests[3] = new SignatureVerificationRequest(wallet.GetAddress(), offCurveSignature, requests[3].Data);
+            requests[4] = null;
+
+            var expected = new[] { true, false, false, false, false, true, true, true };
+
+            Assert.Equal(expected, EcdsaSignature.VerifySignatures(requests, 4));
+        }
     }
 }
@@ -0,0 +1,113 @@
+using System.Linq;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Crypto;
+using Lykke.Icon.Sdk.Data;
+using Org.BouncyCastle.Asn1.X9;
+using Org.BouncyCastle.Crypto.Digests;
+using Org.BouncyCastle.Crypto.Parameters;
+using Org.BouncyCastle.Crypto.Signers;
+using Org.BouncyCastle.Math;
+using Org.BouncyCastle.Security;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Crypto
+{
+    public class SigningKeyTest
+    {
+        private static readonly X9ECParameters CurveParams = ECNamedCurveTable.GetByName("secp256k1");
+
+        [Fact]
+        public void TestSignaturesMatchReferenceSigner()
+        {
+            var random = new SecureRandom();
+
+            for (var i = 0; i < 20; i++)
+            {
+                var privateKey = IconKeys.CreatePrivateKey();
+                var message = new byte[32];
+
+                random.NextBytes(message);
+
+                var signature = new SigningKey(privateKey).GenerateSignature(message);
+                var expectedSignature = GenerateReferenceSignature(privateKey, message);
+
+                Assert.Equal(expectedSignature[0], signature[0]);
+                Assert.Equal(expectedSignature[1], signature[1]);
+            }
+        }
+
+        [Fact]
+        public void TestRecoveryIdMatchesKeyRecovery()
+        {
+            var random = new SecureRandom();
+
+            for (var i = 0; i < 50; i++)
+            {
+                var privateKey = IconKeys.CreatePrivateKey();
+                var message = new byte[32];
+
+                random.NextBytes(message);
+
+                var signingKey = new SigningKey(privateKey);
+                var signature = signingKey.GenerateSignature(message, out var recoveryId);
+                var ecdsaSignature = new EcdsaSignature(privateKey);
+
+                Assert.Equal(ecdsaSignature.FindRecoveryId(signature, message), recoveryId);
+                Assert.Equal(ecdsaSignature.RecoverableSerialize(signature, message), signingKey.SignRecoverable(message));
+            }
+        }
+
+        [Fact]
+        public void TestPublicKeyMatchesGenericMultiplication()
+        {
+            var privateKey = new Bytes(SampleKeys.PrivateKeyString);
+            var expectedPublicKey = CurveParams.G
+                .Multiply(new BigInteger(1, privateKey.ToByteArray()))
+                .GetEncoded(false)
+                .Skip(1)
+                .ToArray();
+
+            Assert.Equal(expectedPublicKey, new SigningKey(privateKey).GetPublicKey().ToByteArray());
+            Assert.Equal(expectedPublicKey, IconKeys.GetPublicKey(privateKey).ToByteArray());
+        }
+
+        [Fact]
+        public void TestConcurrentSigningIsDeterministic()
+        {
+            var privateKey = new Bytes(SampleKeys.PrivateKeyString);
+            var signingKey = new SigningKey(privateKey);
+            var messages = Enumerable.Range(0, 64)
+                .Select(x => Enumerable.Repeat((byte) x, 32).ToArray())
+                .ToArray();
+            var signatures = new BigInteger[messages.Length][];
+
+            Parallel.For(0, messages.Length, i => signatures[i] = signingKey.GenerateSignature(messages[i]));
+
+            for (var i = 0; i < messages.Length; i++)
+            {
+                var expectedSignature = GenerateReferenceSignature(privateKey, messages[i]);
+
+                Assert.Equal(expectedSignature[0], signatures[i][0]);
+                Assert.Equal(expectedSignature[1], signatures[i][1]);
+            }
+        }
+
+        /// <summary>
+        ///    Signing as it was implemented before SigningKey
+        /// </summary>
+        private static BigInteger[] GenerateReferenceSignature(Bytes privateKey, byte[] message)
+        {
+            var curve = new ECDomainParameters(CurveParams.Curve, CurveParams.G, CurveParams.N, CurveParams.H);
+            var signer = new ECDsaSigner(new HMacDsaKCalculator(new Sha256Digest()));
+
+            signer.Init(true, new ECPrivateKeyParameters(new BigInteger(1, privateKey.ToByteArray()), curve));
+
+            var sig = signer.GenerateSignature(message);
+            var s = sig[1].CompareTo(curve.N.ShiftRight(1)) > 0
+                ? curve.N.Subtract(sig[1])
+                : sig[1];
+
+            return new[] { sig[0], s };
+        }
+    }
+}
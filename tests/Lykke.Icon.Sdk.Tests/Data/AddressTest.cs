@@ -69,6 +69,20 @@ private void TestInvalidCreate()
             });
         }
 
+        [Fact]
+        public void TestHashCode()
+        {
+            var address = new Address(Eoa);
+            var sameAddress = new Address(AddressPrefix.FromString(AddressPrefix.Eoa), Address.GetAddressBody(Eoa));
+            var contract = new Address(AddressPrefix.FromString(AddressPrefix.Contract), Address.GetAddressBody(Eoa));
+            var malformed = Address.CreateMalformedAddress("hx1234");
 
+            Assert.Equal(address, sameAddress);
+            Assert.Equal(address.GetHashCode(), sameAddress.GetHashCode());
+            Assert.Equal(address.GetHashCode(), address.GetHashCode());
+            Assert.NotEqual(address, contract);
+            Assert.NotEqual(address.GetHashCode(), contract.GetHashCode());
+            Assert.Equal(Address.CreateMalformedAddress("hx1234").GetHashCode(), malformed.GetHashCode());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using Lykke.Icon.Sdk.Data;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Data
+{
+    public class BytesTest
+    {
+        [Theory]
+        [InlineData("0x00ff10ab", new byte[] { 0x00, 0xff, 0x10, 0xab })]
+        [InlineData("00FF10AB", new byte[] { 0x00, 0xff, 0x10, 0xab })]
+        public void TestHexIsParsed(string hex, byte[] expected)
+        {
+            Assert.Equal(expected, new Bytes(hex).ToByteArray());
+        }
+
+        [Theory]
+        [InlineData("")]
+        [InlineData("0x")]
+        [InlineData("0x0g")]
+        [InlineData("0x 1")]
+        [InlineData("0x12345g")]
+        public void TestInvalidHexIsRejected(string hex)
+        {
+            Assert.Throws<ArgumentException>(() => new Bytes(hex));
+            Assert.False(Bytes.TryParse(hex.AsSpan(), out _));
+        }
+
+        [Fact]
+        public void TestTryParse()
+        {
+            Assert.True(Bytes.TryParse("0xabcdef".AsSpan(), out var withPrefix));
+            Assert.True(Bytes.TryParse("ABCDEF".AsSpan(), out var withoutPrefix));
+            Assert.False(Bytes.TryParse("0xabc".AsSpan(), out _));
+
+            Assert.Equal(new byte[] { 0xab, 0xcd, 0xef }, withPrefix.ToByteArray());
+            Assert.Equal(withPrefix, withoutPrefix);
+        }
+
+        [Fact]
+        public void TestEqualBytesHaveEqualHashCodes()
+        {
+            var random = new Random(1);
+            var map = new Dictionary<Bytes, int>();
+
+            for (var length = 0; length < 70; length++)
+            {
+                var data = new byte[length];
+
+                random.NextBytes(data);
+
+                var bytes = new Bytes(data);
+                var copy = new Bytes(data.ToArray());
+
+                Assert.Equal(bytes, copy);
+                Assert.Equal(bytes.GetHashCode(), copy.GetHashCode());
+
+                map.Add(bytes, length);
+            }
+
+            Assert.Equal(70, map.Count);
+            Assert.Equal(32, map[new Bytes(map.Keys.Single(x => x.Length() == 32).ToHexString(true))]);
+        }
+
+        [Fact]
+        public void TestToByteArrayPadsAndStripsLeadingZeros()
+        {
+            Assert.Equal(new byte[] { 0, 0, 1, 2 }, new Bytes(new byte[] { 0, 1, 2 }).ToByteArray(4));
+            Assert.Equal(new byte[] { 1, 2 }, new Bytes(new byte[] { 0, 0, 1, 2 }).ToByteArray(2));
+            Assert.Equal(new byte[] { 0, 0 }, new Bytes(new byte[] { 0 }).ToByteArray(2));
+            Assert.Throws<ArgumentException>(() => new Bytes(new byte[] { 1, 2, 3 }).ToByteArray(2));
+        }
+
+        [Fact]
+        public void TestToByteArrayKeepsBytesWithHighBitSet()
+        {
+            var publicKey = Enumerable.Range(0, 64).Select(x => (byte) (0xFF - x)).ToArray();
+
+            publicKey[1] = 0x80;
+
+            Assert.Equal(publicKey, new Bytes(publicKey).ToByteArray(64));
+        }
+
+        [Fact]
+        public void TestToHexString()
+        {
+            var bytes = new Bytes(new byte[] { 0x01, 0xab });
+
+            Assert.Equal("0x01ab", bytes.ToHexString(true));
+            Assert.Equal("01ab", bytes.ToHexString(false));
+            Assert.Equal("0x000001ab", bytes.ToHexString(true, 8));
+            Assert.Equal("0x01ab", bytes.ToString());
+            Assert.Equal(1000, new Bytes(new byte[500]).ToHexString(false).Length);
+        }
+    }
+}
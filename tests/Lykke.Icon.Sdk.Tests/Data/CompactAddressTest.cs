@@ -0,0 +1,77 @@
+using System;
+using System.Collections.Generic;
+using System.Diagnostics.CodeAnalysis;
+using Lykke.Icon.Sdk.Data;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Data
+{
+    [SuppressMessage("ReSharper", "StringLiteralTypo")]
+    public class CompactAddressTest
+    {
+        private const string Eoa = "hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd31";
+        private const string Contract = "cx1ca4697e8229e29adce3cded4412a137be6d7edb";
+
+        [Theory]
+        [InlineData(Eoa)]
+        [InlineData(Contract)]
+        public void TestConversionRoundTrip(string value)
+        {
+            var address = new Address(value);
+            var compactAddress = CompactAddress.FromAddress(address);
+
+            Assert.Equal(value, compactAddress.ToString());
+            Assert.Equal(address, compactAddress.ToAddress());
+            Assert.Equal(compactAddress, CompactAddress.Parse(value));
+            Assert.Equal(address.GetPrefix(), compactAddress.GetPrefix());
+            Assert.Equal(value == Contract, compactAddress.IsContract());
+        }
+
+        [Fact]
+        public void TestEqualityAndHashing()
+        {
+            var addresses = new HashSet<CompactAddress>
+            {
+                CompactAddress.Parse(Eoa),
+                CompactAddress.Parse(Contract),
+                CompactAddress.Parse(Eoa)
+            };
+
+            Assert.Equal(2, addresses.Count);
+            Assert.Contains(CompactAddress.FromAddress(new Address(Eoa)), addresses);
+            Assert.DoesNotContain(CompactAddress.Parse("cx" + Eoa.Substring(2)), addresses);
+            Assert.True(CompactAddress.Parse(Eoa) == CompactAddress.Parse(Eoa));
+            Assert.True(CompactAddress.Parse(Eoa) != CompactAddress.Parse(Contract));
+        }
+
+        [Theory]
+        [InlineData("")]
+        [InlineData("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd3")]
+        [InlineData("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd311")]
+        [InlineData("ax4873b94352c8c1f3b2f09aaeccea31ce9e90bd31")]
+        [InlineData("hx4873B94352c8c1f3b2f09aaeccea31ce9e90bd31")]
+        [InlineData("hx4873g94352c8c1f3b2f09aaeccea31ce9e90bd31")]
+        public void TestInvalidAddressIsNotParsed(string value)
+        {
+            Assert.False(CompactAddress.TryParse(value.AsSpan(), out _));
+            Assert.Throws<ArgumentException>(() => CompactAddress.Parse(value));
+        }
+
+        [Fact]
+        public void TestFormatIntoShortBufferFails()
+        {
+            var compactAddress = CompactAddress.Parse(Eoa);
+
+            Assert.False(compactAddress.TryFormat(new char[CompactAddress.Length - 1], out _));
+            Assert.True(compactAddress.TryFormat(new char[CompactAddress.Length], out var charsWritten));
+            Assert.Equal(CompactAddress.Length, charsWritten);
+        }
+
+        [Fact]
+        public void TestMalformedAddressIsNotConverted()
+        {
+            Assert.Throws<ArgumentException>(() => CompactAddress.FromAddress(Address.CreateMalformedAddress("hx123")));
+            Assert.Throws<InvalidOperationException>(() => default(CompactAddress).ToAddress());
+        }
+    }
+}
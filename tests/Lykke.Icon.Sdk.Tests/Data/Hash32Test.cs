@@ -0,0 +1,78 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Data
+{
+    public class Hash32Test
+    {
+        private const string TxHash = "0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbc";
+
+        [Fact]
+        public void TestHexRoundTrip()
+        {
+            var hash = Hash32.Parse(TxHash);
+
+            Assert.Equal(TxHash, hash.ToString());
+            Assert.Equal(hash, Hash32.Parse(TxHash.Substring(2).ToUpperInvariant()));
+            Assert.Equal(new Bytes(TxHash), hash.ToBytes());
+            Assert.Equal(hash, Hash32.FromBytes(new Bytes(TxHash)));
+        }
+
+        [Theory]
+        [InlineData("")]
+        [InlineData("0x")]
+        [InlineData("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59d")]
+        [InlineData("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbc00")]
+        [InlineData("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbz")]
+        public void TestInvalidHashIsNotParsed(string value)
+        {
+            Assert.False(Hash32.TryParse(value.AsSpan(), out _));
+            Assert.Throws<ArgumentException>(() => Hash32.Parse(value));
+        }
+
+        [Fact]
+        public void TestEqualityAndOrdering()
+        {
+            var random = new Random(7);
+            var hashes = Enumerable.Range(0, 100).Select(x =>
+            {
+                var bytes = new byte[Hash32.Size];
+
+                random.NextBytes(bytes);
+
+                return bytes;
+            }).ToArray();
+
+            var set = new HashSet<Hash32>(hashes.Select(x => new Hash32(x)));
+            var sorted = hashes.Select(x => new Hash32(x)).OrderBy(x => x).Select(x => x.ToString()).ToArray();
+            var expectedOrder = hashes.Select(x => new Bytes(x).ToHexString(true)).OrderBy(x => x, StringComparer.Ordinal).ToArray();
+
+            Assert.Equal(100, set.Count);
+            Assert.True(hashes.All(x => set.Contains(new Hash32(x.ToArray()))));
+            Assert.Equal(expectedOrder, sorted);
+            Assert.True(Hash32.Parse(TxHash) == Hash32.Parse(TxHash));
+        }
+
+        [Fact]
+        public void TestTransactionResultHashes()
+        {
+            var result = new TransactionResult(new RpcObject.Builder()
+                .Put("txHash", new RpcValue(TxHash))
+                .Build());
+
+            Assert.True(result.TryGetTxHash(out var txHash));
+            Assert.Equal(Hash32.Parse(TxHash), txHash);
+            Assert.False(result.TryGetBlockHash(out _));
+        }
+
+        [Fact]
+        public void TestWrongLengthIsRejected()
+        {
+            Assert.Throws<ArgumentException>(() => new Hash32(new byte[31]));
+        }
+    }
+}
@@ -2,9 +2,12 @@
 using System.Collections.Generic;
 using System.Diagnostics.CodeAnalysis;
 using System.Globalization;
+using System.Linq;
 using System.Numerics;
+using System.Threading;
 using System.Threading.Tasks;
 using JetBrains.Annotations;
+using Lykke.Icon.Sdk.Caching;
 using Lykke.Icon.Sdk.Data;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
 using Moq;
@@ -122,6 +125,71 @@ public async Task TestGetBlockByHash()
                     It.IsAny<IRpcConverter<Block>>()), Times.Once);
         }
 
+        [Fact]
+        public async Task TestGetBlockUsesBlockCache()
+        {
+            var hash = new Bytes("0x033f8d96045eb8301fd17cf078c28ae58a3ba329f6ada5cf128ee56dc2af26f7");
+            var block = new Block(new RpcObject.Builder()
+                .Put("height", new RpcValue(new BigInteger(10)))
+                .Put("block_hash", new RpcValue(hash))
+                .Build());
+            var provider = new Mock<IProvider>();
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Block>>()))
+                .ReturnsAsync(block);
+
+            var iconService = new IconService(provider.Object, new IconServiceOptions
+            {
+                BlockCache = new BlockCache(1024 * 1024)
+            });
+
+            Assert.Same(block, await iconService.GetBlock(new BigInteger(10)));
+            Assert.Same(block, await iconService.GetBlock(hash));
+            Assert.Same(block, await iconService.GetBlock(new BigInteger(10)));
+
+            provider.Verify(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Block>>()), Times.Once);
+        }
+
+        [Fact]
+        public async Task TestGetBlocksYieldsInOrderWithBoundedConcurrency()
+        {
+            var inFlight = 0;
+            var maxInFlight = 0;
+            var provider = new Mock<IProvider>();
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Block>>()))
+                .Returns(async (Request request, IRpcConverter<Block> converter) =>
+                {
+                    var height = request.Params.GetItem("height").ToInteger();
+                    var current = Interlocked.Increment(ref inFlight);
+
+                    lock (provider)
+                    {
+                        maxInFlight = Math.Max(maxInFlight, current);
+                    }
+
+                    // Lower blocks are answered later, so responses arrive out of order
+                    await Task.Delay(50 - (int) height * 4);
+
+                    Interlocked.Decrement(ref inFlight);
+
+                    return new Block(new RpcObject.Builder()
+                        .Put("height", new RpcValue(height))
+                        .Build());
+                });
+
+            var iconService = new IconService(provider.Object);
+            var heights = new List<BigInteger>();
+
+            await foreach (var block in iconService.GetBlocks(1, 10, 3))
+            {
+                heights.Add(block.GetHeight());
+            }
+
+            Assert.Equal(Enumerable.Range(1, 10).Select(x => new BigInteger(x)), heights);
+            Assert.True(maxInFlight <= 3);
+        }
+
         [Fact]
         public async Task TestGetLastBlock()
         {
@@ -203,6 +271,110 @@ public async Task TestGetTransactionResult()
                     It.IsAny<IRpcConverter<TransactionResult>>()), Times.Once);
         }
 
+        [Fact]
+        public async Task TestGetTransactionResultByHash32()
+        {
+            var provider = GetMockProvider<TransactionResult>();
+
+            var hash = Hash32.Parse("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbc");
+
+            var iconService = new IconService(provider.Object);
+            
+            // ReSharper disable once UnusedVariable
+            var result = await iconService.GetTransactionResult(hash);
+
+            var @params = new Dictionary<string, RpcValue>
+            {
+                ["txHash"] = new RpcValue(hash.ToBytes())
+            };
+
+            provider.Verify(x =>
+                x.SendRequestAsync(It.Is<Request>(request => IsRequestMatches(request, "icx_getTransactionResult", @params)),
+                    It.IsAny<IRpcConverter<TransactionResult>>()), Times.Once);
+        }
+
+        [Fact]
+        public async Task TestRequestIdsAreUnique()
+        {
+            var requestIds = new List<long>();
+            var provider = new Mock<IProvider>();
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()))
+                .Callback<Request, IRpcConverter<BigInteger>>((request, converter) =>
+                {
+                    lock (requestIds)
+                    {
+                        requestIds.Add(request.Id);
+                    }
+                })
+                .ReturnsAsync(BigInteger.Zero);
+
+            var iconService = new IconService(provider.Object);
+
+            await Task.WhenAll(Enumerable.Range(0, 100).Select(i => Task.Run(() => iconService.GetTotalSupply())));
+
+            Assert.Equal(100, requestIds.Distinct().Count());
+        }
+
+        [Fact]
+        public async Task TestCustomRequestIdGenerator()
+        {
+            var provider = GetMockProvider<BigInteger>();
+            var iconService = new IconService(provider.Object, new IconServiceOptions
+            {
+                RequestIdGenerator = new SequentialRequestIdGenerator(41)
+            });
+
+            await iconService.GetTotalSupply();
+
+            provider.Verify(x =>
+                x.SendRequestAsync(It.Is<Request>(request => request.Id == 42),
+                    It.IsAny<IRpcConverter<BigInteger>>()), Times.Once);
+        }
+
+        [Fact]
+        public async Task TestGetTransactionResults()
+        {
+            var provider = new Mock<IProvider>();
+            provider
+                .Setup(x => x.SendBatchRequestAsync(It.IsAny<IReadOnlyList<Request>>(), It.IsAny<IRpcConverter<TransactionResult>>()))
+                .ReturnsAsync(new BatchResult<TransactionResult>[0])
+                .Verifiable();
+
+            var hashes = new[]
+            {
+                new Bytes("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbc"),
+                new Bytes("0x033f8d96045eb8301fd17cf078c28ae58a3ba329f6ada5cf128ee56dc2af26f7")
+            };
+
+            var iconService = new IconService(provider.Object);
+            
+            // ReSharper disable once UnusedVariable
+            var result = await iconService.GetTransactionResults(hashes);
+
+            provider.Verify(x =>
+                x.SendBatchRequestAsync(It.Is<IReadOnlyList<Request>>(requests => IsBatchMatches(requests, "icx_getTransactionResult", hashes)),
+                    It.IsAny<IRpcConverter<TransactionResult>>()), Times.Once);
+        }
+
+        private static bool IsBatchMatches(IReadOnlyList<Request> requests, string method, IReadOnlyList<Bytes> hashes)
+        {
+            if (requests.Count != hashes.Count) return false;
+            if (requests.Select(x => x.Id).Distinct().Count() != requests.Count) return false;
+
+            for (var i = 0; i < requests.Count; i++)
+            {
+                var @params = new Dictionary<string, RpcValue>
+                {
+                    ["txHash"] = new RpcValue(hashes[i])
+                };
+
+                if (!IsRequestMatches(requests[i], method, @params)) return false;
+            }
+
+            return true;
+        }
+
         private class TestQueryRpcConverterFactory : IRpcConverterFactory
         {
             public IRpcConverter<TPersonResponse> Create<TPersonResponse>()
@@ -0,0 +1,52 @@
+using System;
+using Lykke.Icon.Sdk.Data;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests
+{
+    public class KeyWalletRegistryTest
+    {
+        [Fact]
+        public void TestWalletIsFoundByAddress()
+        {
+            var registry = new KeyWalletRegistry();
+            var wallet = registry.Load(new Bytes(SampleKeys.PrivateKeyString));
+
+            registry.Add(KeyWallet.Create());
+
+            Assert.True(registry.TryGetWallet(new Address(SampleKeys.Address), out var foundWallet));
+            Assert.Same(wallet, foundWallet);
+            Assert.Same(wallet, registry.GetWallet(new Address(SampleKeys.Address)));
+            Assert.Equal(2, registry.GetCount());
+        }
+
+        [Fact]
+        public void TestAlreadyRegisteredWalletIsReturned()
+        {
+            var registry = new KeyWalletRegistry();
+            var wallet = registry.Load(new Bytes(SampleKeys.PrivateKeyString));
+
+            Assert.Same(wallet, registry.Load(new Bytes(SampleKeys.PrivateKeyString)));
+            Assert.Equal(1, registry.GetCount());
+        }
+
+        [Fact]
+        public void TestRemovedWalletIsNotFound()
+        {
+            var registry = new KeyWalletRegistry();
+            var wallet = registry.Add(KeyWallet.Create());
+
+            Assert.True(registry.Remove(wallet.GetAddress()));
+            Assert.False(registry.TryGetWallet(wallet.GetAddress(), out _));
+            Assert.Throws<ArgumentException>(() => registry.GetWallet(wallet.GetAddress()));
+        }
+
+        [Fact]
+        public void TestAddressIsDerivedOnce()
+        {
+            var wallet = KeyWallet.Load(new Bytes(SampleKeys.PrivateKeyString));
+
+            Assert.Same(wallet.GetAddress(), wallet.GetAddress());
+        }
+    }
+}
@@ -149,6 +149,39 @@ public void TestDeployTransactionSerialize()
                     serialize);
         }
 
+        [Fact]
+        public void TestSignManyMatchesSequentialSigning()
+        {
+            var to = new Address("hx5bfdb090f43a808005ffc27c25b213145e80b7cd");
+            var transactions = Enumerable.Range(1, 32)
+                .Select(x => TransactionBuilder.CreateBuilder()
+                    .Nid(NetworkId.Main)
+                    .From(wallet.GetAddress())
+                    .To(to)
+                    .Value(new BigInteger(x))
+                    .StepLimit(BigInteger.Parse("12345", NumberStyles.AllowHexSpecifier))
+                    .Timestamp(BigInteger.Parse("563a6cf330136", NumberStyles.AllowHexSpecifier))
+                    .Nonce(new BigInteger(x))
+                    .Build())
+                .ToList();
+
+            var signedTransactions = SignedTransaction.SignMany(transactions, wallet, 4);
+
+            Assert.Equal(transactions.Count, signedTransactions.Count);
+
+            for (var i = 0; i < transactions.Count; i++)
+            {
+                var expected = new SignedTransaction(transactions[i], wallet);
+
+                Assert.Equal(transactions[i].GetNonce(), signedTransactions[i].GetNonce());
+                Assert.Equal
+                (
+                    expected.GetProperties().GetItem("signature").ToString(),
+                    signedTransactions[i].GetProperties().GetItem("signature").ToString()
+                );
+            }
+        }
+
         [Fact]
         public void TestMessageTransactionSerialize()
         {
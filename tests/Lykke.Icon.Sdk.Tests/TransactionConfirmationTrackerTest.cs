@@ -0,0 +1,173 @@
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using System.Numerics;
+using System.Threading;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Moq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests
+{
+    public class TransactionConfirmationTrackerTest
+    {
+        private static readonly TransactionConfirmationTrackerOptions Options = new TransactionConfirmationTrackerOptions
+        {
+            BlockInterval = TimeSpan.FromMilliseconds(20)
+        };
+
+        private static readonly Bytes ExecutedHash = new Bytes("0x0000000000000000000000000000000000000000000000000000000000000001");
+        private static readonly Bytes FailedHash = new Bytes("0x0000000000000000000000000000000000000000000000000000000000000002");
+        private static readonly Bytes PendingHash = new Bytes("0x0000000000000000000000000000000000000000000000000000000000000003");
+        private static readonly Bytes NotFoundHash = new Bytes("0x0000000000000000000000000000000000000000000000000000000000000004");
+        private static readonly Bytes GoloopHash = new Bytes("0x0000000000000000000000000000000000000000000000000000000000000005");
+
+        [Fact]
+        public async Task TestPendingTransactionsArePolledInOneBatch()
+        {
+            var batches = new List<IReadOnlyList<Bytes>>();
+            var iconService = CreateIconService(batches);
+            var tracker = new TransactionConfirmationTracker(iconService.Object, Options);
+
+            var executed = tracker.WaitForTransactionResult(ExecutedHash, TimeSpan.FromSeconds(5));
+            var failed = tracker.WaitForTransactionResult(FailedHash, TimeSpan.FromSeconds(5));
+            var pending = tracker.WaitForTransactionResult(PendingHash, TimeSpan.FromMilliseconds(300));
+
+            Assert.Equal(ExecutedHash, (await executed).GetTxHash());
+            
+            var exception = await Assert.ThrowsAsync<RpcErrorException>(() => failed);
+            Assert.Equal(-32600, exception.Code);
+            
+            await Assert.ThrowsAsync<TimeoutException>(() => pending);
+
+            lock (batches)
+            {
+                // All waiters share each poll cycle
+                Assert.Equal(3, batches[0].Count);
+            }
+        }
+
+        [Fact]
+        public async Task TestUnknownTransactionIsPolledUntilFound()
+        {
+            var iconService = CreateIconService(new List<IReadOnlyList<Bytes>>());
+            var tracker = new TransactionConfirmationTracker(iconService.Object, Options);
+
+            // Both hashes are unknown to the node for a few blocks, as if they were sent through another node
+            var notFound = tracker.WaitForTransactionResult(NotFoundHash, TimeSpan.FromSeconds(5));
+            var goloop = tracker.WaitForTransactionResult(GoloopHash, TimeSpan.FromSeconds(5));
+
+            Assert.Equal(NotFoundHash, (await notFound).GetTxHash());
+            Assert.Equal(GoloopHash, (await goloop).GetTxHash());
+        }
+
+        [Fact]
+        public async Task TestPendingResultPredicateIsConfigurable()
+        {
+            var iconService = CreateIconService(new List<IReadOnlyList<Bytes>>());
+            var tracker = new TransactionConfirmationTracker(iconService.Object, new TransactionConfirmationTrackerOptions
+            {
+                BlockInterval = Options.BlockInterval,
+                IsResultPending = x => x.IsTransactionPending()
+            });
+
+            var exception = await Assert.ThrowsAsync<RpcErrorException>(() =>
+                tracker.WaitForTransactionResult(NotFoundHash, TimeSpan.FromSeconds(5)));
+
+            Assert.True(exception.IsTransactionNotFound());
+        }
+
+        [Theory]
+        [InlineData(-32602, "Pending transaction", true, false)]
+        [InlineData(-32602, "Executing transaction", true, false)]
+        [InlineData(-31002, "Pending: tx is pending", true, false)]
+        [InlineData(-31003, "Executing", true, false)]
+        [InlineData(-32602, "Invalid params txHash", false, true)]
+        [InlineData(-31004, "NotFound: no transaction", false, true)]
+        [InlineData(-32600, "Invalid request", false, false)]
+        public void TestTransactionErrorsAreRecognized(long code, string message, bool isPending, bool isNotFound)
+        {
+            var error = new RpcError(code, message);
+
+            Assert.Equal(isPending, error.IsTransactionPending());
+            Assert.Equal(isNotFound, error.IsTransactionNotFound());
+        }
+
+        [Fact]
+        public async Task TestWaitingIsCancellable()
+        {
+            var iconService = CreateIconService(new List<IReadOnlyList<Bytes>>());
+            var tracker = new TransactionConfirmationTracker(iconService.Object, Options);
+
+            using (var cancellation = new CancellationTokenSource(TimeSpan.FromMilliseconds(50)))
+            {
+                await Assert.ThrowsAnyAsync<OperationCanceledException>(() =>
+                    tracker.WaitForTransactionResult(PendingHash, TimeSpan.FromSeconds(5), cancellation.Token));
+            }
+        }
+
+        private static Mock<IIconService> CreateIconService(List<IReadOnlyList<Bytes>> batches)
+        {
+            var height = 0;
+            var iconService = new Mock<IIconService>();
+
+            // Every tip poll observes a new block
+            iconService
+                .Setup(x => x.GetLastBlock())
+                .Returns(() => Task.FromResult(new Block(new RpcObject.Builder()
+                    .Put("height", new RpcValue(new BigInteger(Interlocked.Increment(ref height))))
+                    .Build())));
+
+            iconService
+                .Setup(x => x.GetTransactionResults(It.IsAny<IEnumerable<Bytes>>()))
+                .Returns((IEnumerable<Bytes> hashes) =>
+                {
+                    var batch = hashes.ToList();
+                    int batchNumber;
+
+                    lock (batches)
+                    {
+                        batches.Add(batch);
+                        batchNumber = batches.Count;
+                    }
+
+                    var results = batch
+                        .Select((hash, index) =>
+                        {
+                            if (hash.Equals(NotFoundHash) && batchNumber <= 3)
+                            {
+                                return new BatchResult<TransactionResult>(index, new RpcError(-32602, "Invalid params txHash"));
+                            }
+
+                            if (hash.Equals(GoloopHash) && batchNumber <= 3)
+                            {
+                                return batchNumber == 1
+                                    ? new BatchResult<TransactionResult>(index, new RpcError(-31004, "NotFound: no transaction"))
+                                    : new BatchResult<TransactionResult>(index, new RpcError(-31002, "Pending: tx is pending"));
+                            }
+
+                            if (batchNumber == 1 || hash.Equals(PendingHash))
+                            {
+                                return new BatchResult<TransactionResult>(index, new RpcError(-32602, "Pending transaction"));
+                            }
+
+                            if (hash.Equals(FailedHash))
+                            {
+                                return new BatchResult<TransactionResult>(index, new RpcError(-32600, "Invalid request"));
+                            }
+
+                            return new BatchResult<TransactionResult>(index, new TransactionResult(new RpcObject.Builder()
+                                .Put("txHash", new RpcValue(hash))
+                                .Build()));
+                        })
+                        .ToList();
+
+                    return Task.FromResult<IReadOnlyList<BatchResult<TransactionResult>>>(results);
+                });
+
+            return iconService;
+        }
+    }
+}
@@ -120,5 +120,80 @@ public void TestMessageTransactionDeserialize()
 
             TransactionAssertion.CompareTransactions(transaction, deserialized);
         }
+
+        [Fact]
+        public void TestCallTransactionWithArraysDeserialize()
+        {
+            var @params = new RpcObject.Builder()
+                .Put("_recipients", new RpcArray.Builder()
+                    .Add(new RpcObject.Builder()
+                        .Put("address", new RpcValue("hx5bfdb090f43a808005ffc27c25b213145e80b7cd"))
+                        .Put("amounts", new RpcArray.Builder()
+                            .Add(new RpcValue(BigInteger.One))
+                            .Add(new RpcValue(new BigInteger(2)))
+                            .Build())
+                        .Build())
+                    .Add(new RpcArray.Builder().Build())
+                    .Add(new RpcValue("memo {with} [escaped] chars.\\"))
+                    .Build())
+                .Put("_note", new RpcValue("a.b"))
+                .Build();
+
+            var transaction = TransactionBuilder.CreateBuilder()
+                .Nid(NetworkId.Main)
+                .From(new Address("hxbe258ceb872e08851f1f59694dac2558708ece11"))
+                .To(new Address("cx982aed605b065b50a2a639c1ea5710ef5a0501a9"))
+                .StepLimit(BigInteger.Parse("75000"))
+                .Timestamp(BigInteger.Parse("5727e42882650", NumberStyles.HexNumber))
+                .Call("multiTransfer")
+                .Params(@params)
+                .Build();
+
+            var serialized = TransactionSerializer.Serialize(SignedTransaction.GetTransactionProperties(transaction));
+            var deserialized = TransactionDeserializer.Deserialize(serialized);
+            var recipients = deserialized.GetData().ToObject().GetItem("params").ToObject().GetItem("_recipients").ToArray();
+
+            Assert.Equal(serialized, TransactionSerializer.Serialize(SignedTransaction.GetTransactionProperties(deserialized)));
+            Assert.Equal(3, recipients.Size());
+            Assert.Equal(2, recipients.Get(0).ToObject().GetItem("amounts").ToArray().Size());
+            Assert.Equal(0, recipients.Get(1).ToArray().Size());
+            Assert.Equal("memo {with} [escaped] chars.\\", recipients.Get(2).ToString());
+        }
+
+        [Theory]
+        [InlineData("icx_sendTransaction.data.{method.transfer")]
+        [InlineData("icx_sendTransaction.data.[0x1.0x2")]
+        [InlineData("icx_sendTransaction.data.{method.transfer]")]
+        [InlineData("icx_sendTransaction.version.0x3}")]
+        [InlineData("icx_sendTransaction.version.0x3\\")]
+        [InlineData("icx_sendTransaction.version")]
+        [InlineData("icx_send")]
+        public void TestMalformedTransactionIsRejected(string serialized)
+        {
+            Assert.Throws<ArgumentException>(() => TransactionDeserializer.DeserializeToRpc(serialized));
+        }
+
+        [Fact]
+        public void TestDeeplyNestedTransactionIsRejected()
+        {
+            var serialized = "icx_sendTransaction.data." + new string('{', 100_000);
+
+            Assert.Throws<ArgumentException>(() => TransactionDeserializer.DeserializeToRpc(serialized));
+        }
+
+        [Fact]
+        public void TestNestedTransactionWithinDepthLimit()
+        {
+            var serialized = "icx_sendTransaction.data." + new string('[', 64) + "0x1" + new string(']', 64);
+
+            var data = TransactionDeserializer.DeserializeToRpc(serialized).GetItem("data");
+
+            for (var i = 0; i < 64; i++)
+            {
+                data = data.ToArray().Get(0);
+            }
+
+            Assert.Equal("0x1", data.ToString());
+        }
     }
 }
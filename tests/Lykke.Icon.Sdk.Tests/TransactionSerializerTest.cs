@@ -0,0 +1,271 @@
+using System;
+using System.Collections.Generic;
+using System.Globalization;
+using System.Linq;
+using System.Numerics;
+using System.Text;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Org.BouncyCastle.Crypto.Digests;
+using Org.BouncyCastle.Utilities.Encoders;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests
+{
+    public class TransactionSerializerTest
+    {
+        // Hashes are calculated with an independent SHA3-256 implementation (openssl dgst -sha3-256)
+        // over the serialization built by hand from the format description
+        public static IEnumerable<object[]> HashCorpus => new[]
+        {
+            new object[] { "", "52adc1af043c1bb5fc8eba8ca2d855192862f3f3ce01d60b3ddfc12b1767c4dd" },
+            new object[] { "plain", "9ead24dd6e931e98c820fdb0cb5df4e7b1b886ef9c40ba0ad7331082f91efb2b" },
+            new object[] { "a.b", "3fda7d62f19f12de48e613a33f7e46a25e7724af1ec96f05797c445d463b785c" },
+            new object[] { "..", "0cce9d369791833b1b83744190b4afb6c696b637b0883181e39ba443fd70fab4" },
+            new object[] { "\\", "d2846bc5a84831d5274657f5916cd4d5eca5c0acddd773aeae0b468db284fdeb" },
+            new object[] { "\\\\", "cf8fe898cbbe1846ec6f0547afe1cd5c58532d928ed2da520ca472723fcc1b32" },
+            new object[] { "{", "8977a1e3774d154a37f8918f9805abf816e7d4bff2174553f268d31c246c585d" },
+            new object[] { "}", "962184de3a38f9fd02f8d934f03729065fd0295e1b9fce7636ed400275037d20" },
+            new object[] { "{}", "2447512e24ff90d9f58c93241268c17c7501b2c1e26690b12e2660ffba3d9b3a" },
+            new object[] { "[", "23edcbec5ad61930572ce48998f3584f7bda75b28772bc6e82de0efb630acacb" },
+            new object[] { "]", "15e02d77bb7c9022493dd588334a779479d9fbc391ec77b08a3dcd31985c5fd6" },
+            new object[] { "[]", "d3bfaac671755ddde4d102bed857de18401f12fa731421aefa5fbbc6d57d9ad6" },
+            new object[] { "{[.\\]}", "5f694a14b9127563f8e6d1c4f8a850381a674f3a59c551f8dba876f160baa045" },
+            new object[] { "0x1.0x2", "abdea397c2e698b84816da7f61dca951364b7efd82aee3695ab5daab9f287aec" },
+            new object[] { "a\\.b", "569e95a37cf48de36048c15be72f8bdb7cfe77ea56aed479f00a2a004e85406b" },
+            new object[] { "trailing\\", "f101b7dc19cf89c29e522556c000fe8afe6ad7fff70a095fe5ed82ad72ec00f6" },
+            new object[] { ".leading", "957e120a0ab8ac823ccb039384c2edda246f3f630c34430ef80273925d495090" },
+            new object[] { "ends.", "494b707a81ee50e1116c92980ed5e784f07d93d40f284d2dd45bec954f367875" },
+            new object[] { "hello world", "96b3a8240406f8a7a95d470c2e8d45c41226449f7fa3f5999d57b5a19a8fae99" },
+            new object[] { "*+?|^$()#", "6076ad85f373d9db7505ab94bc5ed7bab68ca1ba4d710695624034cb162433ed" },
+            new object[] { "\t\n\r", "2a63a0a64c7a173b8fac26bafe0512262c6808e3259d542563ed24eaf66641b8" },
+            new object[] { "\\0", "08789a709fdd186dceeaf2b624b0013eafa0d18306f88cc6a6ed4850100caf76" },
+            new object[] { "0", "6bed0cfd15f796ce6a3e42835aa531005daa42533b65e0a89906236db127e44c" },
+            new object[] { "unicode \u2603", "aa528a4f236dea6f55b7808480c15f20de8c3f49c71f283ff606af5eb54ed0b1" },
+            new object[] { "emoji \ud83d\ude00.x", "4a72a1fcfecf8570ada9dc27a0ea914786577e8f53dc5d0a731aee8c20ec960a" },
+            new object[] { "\u043a\u0438\u0440\u0438\u043b\u043b\u0438\u0446\u0430{1}", "2e078889f81889242f279339c39ed03e9b0c4fa227e8a8ea382c63b5877728c1" },
+            new object[] { "{\"json\": [1, 2]}", "c8da3de70d89b37620877b7d87e43485ccf40e1bb6b5e01239af53ab7308dc34" },
+            new object[] { "C:\\path\\file.txt", "64f7e1eceea0e0d7d48ccdf7fcf758d521b180a7d30c888323054e9b579f7208" },
+            new object[] { "a]b[c}d{e", "b2cc951c903e9fe4ac8cef38dcbc2ad81354566a5350b75dcd5c3300d6a8c7c3" },
+            new object[] { "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx.yyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyy", "168d58e8bb74aa99da982ad863e1bf444eef9eb2bc34113861caaed34e8265cc" },
+            new object[] { "a{0]b{+}}}+}}?.[0{", "0150ab678e22cce3c11195de75c4e67a04c9ec8e467b5c2a60f9f1cca825f8ec" },
+            new object[] { "\\}[b0*00 .{+[0*?a.0+a}b+..\\}.{\\+0", "89f8e444ce2702a88a491f4b9c3b1fbf4eb90a69c29f1783dd642adc608ffef2" },
+            new object[] { " ..\\+.\\ .b0++[0?", "0368ed5e8ea5770224fb0bc2e078e639e7fa20fef3a5bc5adb4276dd99f22176" },
+            new object[] { "*.\\\\a ]  0 \\+]{b0*\\a {+{+.0b+b\\0.b]{?", "f2ae535c25637db03d242818448e6a658571e2d5753771eab5eeabde32e7c169" },
+            new object[] { "a1[{0a\\b?}", "6bf7b76386ef27047381cfaaf8c150ddf5b6855da48feedfd1d8a780aca1173f" },
+            new object[] { "0{*\\}", "66af90be93a5fa0272b770e4d3ad684518df10e096c9b4478ca07d550678491a" },
+            new object[] { "b1+??", "854d2e0204f15ee42c521386616458afddaec275e2d292d85d02b4bde2e9c236" },
+            new object[] { " +}}aa]b1ba[b}{{ 1}.{.+\\a{*{.\\[ ]ba}{*10", "867eab344b4346960d92e6af30d3a68df54e6da30cf4bcc82042ac78f300fe81" },
+            new object[] { "[}1{]+ a[a", "7d59f57a61b647bab35bca5d7c6d24ef9d9c6dd82853f780ba1c42738210f4a9" },
+            new object[] { "++*", "c4dec323351b214199415b44692ab43e608947eb108d94305724e395d0c0c1dd" },
+            new object[] { "}*{a *{\\+a+0a\\]}.{?1[1{}b+.?}.\\{[\\.{{[?", "cf839e6e5036aee5cff535ba5c9324c1421387d49617c3b09912de780f0cde73" },
+            new object[] { "{[0}.}}{}a{} ]ba[+}{. .*.+{}\\[\\", "248e522d12fdfdb3d7636f336e750487cee7363e8b04e6ab652f891d01bb04c5" },
+            new object[] { ".?b0+1 }bb}+\\\\.1{ b{[}[}{**\\\\+\\", "060631132ce1acea77b1114d3c3dbee54f437b6a6db610a3a7e1c1659e06318c" },
+            new object[] { "{ ?\\0\\1b?.1[+}{]}1+1?+\\*]*+* 0\\\\\\*]1\\.}", "c9ba513980d44382f90f2ccb8bdf666e981a0c79f01270cd1f55f8d466c38ef2" },
+            new object[] { "\\.[?b{ [\\\\{b1{]]}a{a?", "cd15950336bff58550e4b077e3c83deb6de7b9a15128084dcb10fe7f9a64a555" },
+            new object[] { "a\\{*.}1]+a1}\\?]\\b\\}b01+??", "a57262eaf7de453008559edec79a7aa6b8ab26f3575fd8ccdbde82b6f1c05ac2" },
+            new object[] { "].{b]0}\\*.{b {1{}+ ?{]}]]a?", "37899708ad071221ee46674560ab1a32aeb986fd024a873ccf5a5cddf918f0e4" },
+            new object[] { "a[?{.\\1[}]+]?a+*1b**.??\\b0+\\...*[1", "7b9691fe3ea4a84190a9e49cafe041a8fdfbe6607f66584fe582350aded73748" },
+            new object[] { " 0]+[ b}+bb\\b111\\?\\", "aa9f80c210bd74abd592d7e2719328df1745a998c5ea03800f0007066b6a11d9" },
+            new object[] { "].}0*\\*]b?a0ab?a[{\\ .{?0[*?", "9578763475ac09d2f84592a9fdc3d17e327c6cd2837779eb72f9d3374fc93831" },
+        };
+
+        // Transactions accepted by the testnet, with the txHash returned by the node
+        public static IEnumerable<object[]> AcceptedTransactions => new[]
+        {
+            new object[]
+            {
+                TransactionBuilder.CreateBuilder()
+                    .Nid(BigInteger.Parse("3"))
+                    .From(new Address("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd31"))
+                    .To(new Address("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd31"))
+                    .StepLimit(BigInteger.Parse("75000"))
+                    .Timestamp(BigInteger.Parse("574b28aee6810", NumberStyles.HexNumber))
+                    .Nonce(BigInteger.Parse("1"))
+                    .Message("Hello World")
+                    .Build(),
+                "e436d4afac5a73cef8b1f88eadc66e6a1b39ef38f409ddea52ddfaea5e36b94e"
+            },
+            new object[]
+            {
+                TransactionBuilder.CreateBuilder()
+                    .Nid(BigInteger.Parse("3"))
+                    .From(new Address("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd31"))
+                    .To(new Address("cxcc7ef86cdae93a89b6c08206a7962bcb9abb7bf4"))
+                    .StepLimit(BigInteger.Parse("75000"))
+                    .Timestamp(BigInteger.Parse("574b2964095a8", NumberStyles.HexNumber))
+                    .Nonce(BigInteger.Parse("1"))
+                    .Call("transfer")
+                    .Params(new RpcObject.Builder()
+                        .Put("_to", new RpcValue(new Address("hx4873b94352c8c1f3b2f09aaeccea31ce9e90bd31")))
+                        .Put("_value", new RpcValue(BigInteger.Parse("1")))
+                        .Build())
+                    .Build(),
+                "38cb29ff07ceeed59bf07274e326325c04ed1e6e8dca877dcff193c2de535263"
+            }
+        };
+
+        public static IEnumerable<object[]> NonEmptyValues => HashCorpus.Where(x => ((string) x[0]).Length != 0);
+
+        [Theory]
+        [MemberData(nameof(HashCorpus))]
+        public void TestTransactionHashMatchesKnownHash(string value, string expectedHash)
+        {
+            var properties = CreateProperties(value);
+
+            Assert.Equal(expectedHash, Hex.ToHexString(SignedTransaction.GetTransactionHash(properties)));
+        }
+
+        [Theory]
+        [MemberData(nameof(AcceptedTransactions))]
+        public void TestTransactionHashMatchesAcceptedTransaction(ITransaction transaction, string expectedHash)
+        {
+            var properties = SignedTransaction.GetTransactionProperties(transaction);
+
+            Assert.Equal(expectedHash, Hex.ToHexString(SignedTransaction.GetTransactionHash(properties)));
+        }
+
+        [Theory]
+        [MemberData(nameof(HashCorpus))]
+        public void TestSerializeMatchesReferenceSerializer(string value, string expectedHash)
+        {
+            var properties = CreateProperties(value);
+            var serialized = TransactionSerializer.Serialize(properties);
+
+            Assert.Equal(ReferenceSerialize(properties), serialized);
+            Assert.Equal(expectedHash, Hex.ToHexString(Sha3(serialized)));
+        }
+
+        [Theory]
+        [MemberData(nameof(NonEmptyValues))]
+        public void TestEscapedValueIsRestoredByDeserializer(string value, string expectedHash)
+        {
+            var transaction = TransactionBuilder.CreateBuilder()
+                .Nid(NetworkId.Main)
+                .From(new Address("hxbe258ceb872e08851f1f59694dac2558708ece11"))
+                .To(new Address("cx982aed605b065b50a2a639c1ea5710ef5a0501a9"))
+                .StepLimit(new BigInteger(75000))
+                .Timestamp(new BigInteger(1))
+                .Call("transfer")
+                .Params(new RpcObject.Builder()
+                    .Put("_note", new RpcValue(value))
+                    .Build())
+                .Build();
+            var serialized = TransactionSerializer.Serialize(SignedTransaction.GetTransactionProperties(transaction));
+
+            var deserialized = TransactionDeserializer.Deserialize(serialized);
+            var note = deserialized.GetData().ToObject().GetItem("params").ToObject().GetItem("_note");
+
+            Assert.Equal(value, note.ToString());
+        }
+
+        [Fact]
+        public void TestEscapeAndUnescapeRoundTrip()
+        {
+            var random = new Random(42);
+            const string alphabet = "ab.\\{}[]\0 ☃";
+
+            for (var i = 0; i < 10_000; i++)
+            {
+                var chars = new char[random.Next(0, 32)];
+
+                for (var j = 0; j < chars.Length; j++)
+                {
+                    chars[j] = alphabet[random.Next(alphabet.Length)];
+                }
+
+                var value = new string(chars);
+                var escaped = TransactionEscaper.Escape(value);
+
+                Assert.Equal(ReferenceEscape(value), escaped);
+                Assert.Equal(value, TransactionEscaper.Unescape(escaped));
+            }
+        }
+
+        [Fact]
+        public void TestUnescapeRejectsUnpairedBackslash()
+        {
+            Assert.Throws<ArgumentException>(() => TransactionEscaper.Unescape("abc\\"));
+        }
+
+        [Fact]
+        public void TestSerializeLargeTransaction()
+        {
+            var properties = CreateProperties(new string('x', 100_000) + "." + new string('☃', 10_000));
+
+            Assert.Equal(ReferenceSerialize(properties), TransactionSerializer.Serialize(properties));
+            Assert.Equal(ReferenceSerialize(CreateProperties("short")), TransactionSerializer.Serialize(CreateProperties("short")));
+        }
+
+        private static RpcObject CreateProperties(string value)
+        {
+            var data = new RpcObject.Builder()
+                .Put("method", new RpcValue("transfer"))
+                .Put("params", new RpcObject.Builder()
+                    .Put("_note", new RpcValue(value))
+                    .Put("_list", new RpcArray.Builder()
+                        .Add(new RpcValue(value))
+                        .Add(new RpcValue(BigInteger.One))
+                        .Build())
+                    .Put("Memo", new RpcValue(value))
+                    .Build())
+                .Build();
+
+            return new RpcObject.Builder()
+                .Put("version", new RpcValue(new BigInteger(3)))
+                .Put("from", new RpcValue("hxbe258ceb872e08851f1f59694dac2558708ece11"))
+                .Put("to", new RpcValue("cx982aed605b065b50a2a639c1ea5710ef5a0501a9"))
+                .Put("stepLimit", new RpcValue(BigInteger.Parse("74565")))
+                .Put("nid", new RpcValue(BigInteger.One))
+                .Put("nonce", new RpcValue(BigInteger.One))
+                .Put("timestamp", new RpcValue(BigInteger.Parse("1517999520000310")))
+                .Put("dataType", new RpcValue("call"))
+                .Put("data", data)
+                .Build();
+        }
+
+        private static byte[] Sha3(string serialized)
+        {
+            var input = Encoding.UTF8.GetBytes(serialized);
+            var digest = new Sha3Digest(256);
+            var output = new byte[digest.GetDigestSize()];
+
+            digest.BlockUpdate(input, 0, input.Length);
+            digest.DoFinal(output, 0);
+
+            return output;
+        }
+
+        private static string ReferenceEscape(string value)
+        {
+            return string.Concat(value.Select(x => "\\.{}[]".IndexOf(x) >= 0 ? "\\" + x : x.ToString()));
+        }
+
+        private static string ReferenceSerialize(RpcObject properties)
+        {
+            return "icx_sendTransaction." + ReferenceSerializeObjectItems(properties);
+        }
+
+        private static string ReferenceSerialize(RpcItem item)
+        {
+            switch (item)
+            {
+                case RpcObject @object:
+                    return "{" + ReferenceSerializeObjectItems(@object) + "}";
+                case RpcArray array:
+                    return "[" + string.Join(".", array.Select(ReferenceSerialize)) + "]";
+                case null:
+                    return "\\0";
+                default:
+                    return ReferenceEscape(item.ToString());
+            }
+        }
+
+        private static string ReferenceSerializeObjectItems(RpcObject @object)
+        {
+            return string.Join(".", @object.GetKeys()
+                .OrderBy(x => x, StringComparer.Ordinal)
+                .Select(x => x + "." + ReferenceSerialize(@object.GetItem(x))));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+using System.Numerics;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Transport.Coalescing;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Moq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Transport.Coalescing
+{
+    public class CoalescingProviderTest
+    {
+        [Fact]
+        public async Task TestConcurrentIdenticalRequestsShareOneCall()
+        {
+            var response = new TaskCompletionSource<BigInteger>();
+            var provider = new Mock<IProvider>();
+
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()))
+                .Returns(response.Task);
+
+            var coalescingProvider = new CoalescingProvider(provider.Object);
+
+            var first = coalescingProvider.SendRequestAsync(BalanceRequest(1, "hx0000000000000000000000000000000000000001"), Converters.BigInteger);
+            var second = coalescingProvider.SendRequestAsync(BalanceRequest(2, "hx0000000000000000000000000000000000000001"), Converters.BigInteger);
+            var other = coalescingProvider.SendRequestAsync(BalanceRequest(3, "hx0000000000000000000000000000000000000002"), Converters.BigInteger);
+
+            response.SetResult(BigInteger.One);
+
+            Assert.Equal(BigInteger.One, await first);
+            Assert.Equal(BigInteger.One, await second);
+            Assert.Equal(BigInteger.One, await other);
+            Assert.Equal(1, coalescingProvider.GetCoalescedRequestCount());
+
+            provider.Verify(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()), Times.Exactly(2));
+        }
+
+        [Fact]
+        public async Task TestCompletedRequestIsNotReused()
+        {
+            var provider = new Mock<IProvider>();
+
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()))
+                .ReturnsAsync(BigInteger.One);
+
+            var coalescingProvider = new CoalescingProvider(provider.Object);
+
+            await coalescingProvider.SendRequestAsync(new Request(1, RpcMethods.GetTotalSupply, null), Converters.BigInteger);
+            await coalescingProvider.SendRequestAsync(new Request(2, RpcMethods.GetTotalSupply, null), Converters.BigInteger);
+
+            provider.Verify(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()), Times.Exactly(2));
+        }
+
+        [Fact]
+        public async Task TestSendTransactionIsNotCoalesced()
+        {
+            var response = new TaskCompletionSource<Bytes>();
+            var provider = new Mock<IProvider>();
+
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Bytes>>()))
+                .Returns(response.Task);
+
+            var coalescingProvider = new CoalescingProvider(provider.Object);
+
+            var first = coalescingProvider.SendRequestAsync(new Request(1, RpcMethods.SendTransaction, null), Converters.Bytes);
+            var second = coalescingProvider.SendRequestAsync(new Request(2, RpcMethods.SendTransaction, null), Converters.Bytes);
+
+            response.SetResult(new Bytes("0x01"));
+
+            await Task.WhenAll(first, second);
+
+            provider.Verify(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<Bytes>>()), Times.Exactly(2));
+        }
+
+        [Fact]
+        public async Task TestFailureIsSharedAndNotCached()
+        {
+            var response = new TaskCompletionSource<BigInteger>();
+            var provider = new Mock<IProvider>();
+
+            provider
+                .Setup(x => x.SendRequestAsync(It.IsAny<Request>(), It.IsAny<IRpcConverter<BigInteger>>()))
+                .Returns(() => response.Task);
+
+            var coalescingProvider = new CoalescingProvider(provider.Object);
+
+            var first = coalescingProvider.SendRequestAsync(new Request(1, RpcMethods.GetTotalSupply, null), Converters.BigInteger);
+            var second = coalescingProvider.SendRequestAsync(new Request(2, RpcMethods.GetTotalSupply, null), Converters.BigInteger);
+
+            response.SetException(new RpcErrorException(-32000, "Server error"));
+
+            await Assert.ThrowsAsync<RpcErrorException>(() => first);
+            await Assert.ThrowsAsync<RpcErrorException>(() => second);
+
+            response = new TaskCompletionSource<BigInteger>();
+            response.SetResult(BigInteger.One);
+
+            Assert.Equal(BigInteger.One, await coalescingProvider.SendRequestAsync(new Request(3, RpcMethods.GetTotalSupply, null), Converters.BigInteger));
+        }
+
+        private static Request BalanceRequest(long id, string address)
+        {
+            var @params = new RpcObject.Builder()
+                .Put("address", new RpcValue(new Address(address)))
+                .Build();
+
+            return new Request(id, RpcMethods.GetBalance, @params);
+        }
+    }
+}
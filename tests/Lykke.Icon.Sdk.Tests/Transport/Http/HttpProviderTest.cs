@@ -0,0 +1,239 @@
+using System.Collections.Generic;
+using System.IO;
+using System.Linq;
+using System.Net;
+using System.Net.Http;
+using System.Numerics;
+using System.Text;
+using System.Threading;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Tests.Utils;
+using Lykke.Icon.Sdk.Transport.Http;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Newtonsoft.Json.Linq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Transport.Http
+{
+    public class HttpProviderTest
+    {
+        private const string Url = "http://localhost/api/v3";
+
+        [Fact]
+        public async Task TestBatchRequestIsSentAsSingleArray()
+        {
+            var handler = new StubHttpMessageHandler(body =>
+                "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x2\"},{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}]");
+            var provider = new HttpProvider(new HttpClient(handler), Url);
+
+            var requests = new[]
+            {
+                new Request(1, "icx_getTotalSupply", null),
+                new Request(2, "icx_getTotalSupply", null)
+            };
+
+            var results = await provider.SendBatchRequestAsync(requests, Converters.BigInteger);
+
+            Assert.Single(handler.RequestBodies);
+            var sentBatch = JArray.Parse(handler.RequestBodies[0]);
+            Assert.Equal(2, sentBatch.Count);
+            Assert.Equal(new long[] { 1, 2 }, sentBatch.Select(x => x.Value<long>("id")));
+
+            // Results are matched by id and returned in the order of requests
+            Assert.Equal(1, results[0].Id);
+            Assert.Equal(BigInteger.One, results[0].GetResultOrThrow());
+            Assert.Equal(2, results[1].Id);
+            Assert.Equal(new BigInteger(2), results[1].GetResultOrThrow());
+        }
+
+        [Fact]
+        public async Task TestBatchRequestReportsErrorsPerItem()
+        {
+            var handler = new StubHttpMessageHandler(body =>
+                "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"},{\"jsonrpc\":\"2.0\",\"id\":2,\"error\":{\"code\":-32602,\"message\":\"Pending transaction\"}}]");
+            var provider = new HttpProvider(new HttpClient(handler), Url);
+
+            var requests = new[]
+            {
+                new Request(1, "icx_getTotalSupply", null),
+                new Request(2, "icx_getTotalSupply", null),
+                new Request(3, "icx_getTotalSupply", null)
+            };
+
+            var results = await provider.SendBatchRequestAsync(requests, Converters.BigInteger);
+
+            Assert.True(results[0].IsSuccess);
+            Assert.False(results[1].IsSuccess);
+            Assert.Equal(-32602, results[1].Error.Code);
+            Assert.Throws<RpcErrorException>(() => results[1].GetResultOrThrow());
+            Assert.False(results[2].IsSuccess);
+        }
+
+        [Fact]
+        public async Task TestBatchRequestWithDuplicateIdsIsRejected()
+        {
+            var handler = new StubHttpMessageHandler(body => "[]");
+            var provider = new HttpProvider(new HttpClient(handler), Url);
+
+            var requests = new[]
+            {
+                new Request(1, "icx_getTotalSupply", null),
+                new Request(1, "icx_getTotalSupply", null)
+            };
+
+            await Assert.ThrowsAsync<System.ArgumentException>(() => provider.SendBatchRequestAsync(requests, Converters.BigInteger));
+            Assert.Empty(handler.RequestBodies);
+        }
+
+        [Fact]
+        public async Task TestMismatchedResponseIdIsRejected()
+        {
+            var handler = new StubHttpMessageHandler(body => "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x1\"}");
+            var provider = new HttpProvider(new HttpClient(handler), Url);
+
+            var request = new Request(1, "icx_getTotalSupply", null);
+
+            await Assert.ThrowsAsync<System.InvalidOperationException>(() => provider.SendRequestAsync(request, Converters.BigInteger));
+        }
+
+        [Theory]
+        [InlineData(false)]
+        [InlineData(true)]
+        public async Task TestErrorWithNullIdIsReported(bool useUtf8Codec)
+        {
+            var handler = new StubHttpMessageHandler(body => "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32700,\"message\":\"Parse error\"}}");
+            var provider = new HttpProvider(new HttpClient(handler), Url, new HttpProviderOptions
+            {
+                Codec = useUtf8Codec ? new Utf8JsonRpcCodec() : null
+            });
+
+            var request = new Request(1, "icx_getTotalSupply", null);
+            var exception = await Assert.ThrowsAsync<RpcErrorException>(() => provider.SendRequestAsync(request, Converters.BigInteger));
+
+            Assert.Equal(-32700, exception.Code);
+        }
+
+        [Fact]
+        public async Task TestStreamingRequest()
+        {
+            var handler = new StubHttpMessageHandler(body => "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4d2\"}");
+            var provider = new HttpProvider(new HttpClient(handler), Url, new HttpProviderOptions { UseStreaming = true });
+
+            var request = new Request(1, "icx_getTotalSupply", null);
+            var result = await provider.SendRequestAsync(request, Converters.BigInteger);
+
+            Assert.Equal(new BigInteger(1234), result);
+            Assert.Equal("icx_getTotalSupply", JObject.Parse(handler.RequestBodies[0]).Value<string>("method"));
+        }
+
+        [Fact]
+        public async Task TestStreamingRequestWithLargeBody()
+        {
+            // Body spans many pooled segments, multi-byte characters cross segment boundaries
+            var value = string.Concat(Enumerable.Repeat("value☃", 50_000));
+            var responseBody = Encoding.UTF8.GetBytes("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + value + "\"}");
+
+            // Stream content is not exposed as MemoryStream, like a body which is still on the network
+            var handler = new StubHttpMessageHandler((httpRequest, body) => Task.FromResult(new HttpResponseMessage(HttpStatusCode.OK)
+            {
+                Content = new StreamContent(new MemoryStream(responseBody))
+            }));
+            var provider = new HttpProvider(new HttpClient(handler), Url, new HttpProviderOptions { UseStreaming = true });
+
+            var request = new Request(1, "icx_getBlockByHeight", null);
+
+            Assert.Equal(value, await provider.SendRequestAsync(request, Converters.String));
+        }
+
+        [Fact]
+        public async Task TestStreamingBatchRequest()
+        {
+            var handler = new StubHttpMessageHandler(body =>
+                "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x2\"},{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32602,\"message\":\"Invalid params\"}}]");
+            var provider = new HttpProvider(new HttpClient(handler), Url, new HttpProviderOptions
+            {
+                UseStreaming = true,
+                Codec = new Utf8JsonRpcCodec()
+            });
+
+            var requests = new[]
+            {
+                new Request(1, "icx_getTotalSupply", null),
+                new Request(2, "icx_getTotalSupply", null)
+            };
+
+            // Repeated calls over the same provider are not affected by the reused buffers
+            for (var i = 0; i < 3; i++)
+            {
+                var results = await provider.SendBatchRequestAsync(requests, Converters.BigInteger);
+
+                Assert.False(results[0].IsSuccess);
+                Assert.Equal(new BigInteger(2), results[1].GetResultOrThrow());
+                Assert.Equal(2, JArray.Parse(handler.RequestBodies[i]).Count);
+            }
+        }
+
+        [Fact]
+        public async Task TestRequestBufferIsReusedBetweenCalls()
+        {
+            // More sequential calls than the pool can retain, so at least one buffer must be seen twice
+            const int calls = 40;
+
+            var handler = new BufferRecordingHttpMessageHandler("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}");
+            var provider = new HttpProvider(new HttpClient(handler), Url);
+            var request = new Request(1, "icx_getTotalSupply", null);
+
+            for (var i = 0; i < calls; i++)
+            {
+                Assert.Equal(BigInteger.One, await provider.SendRequestAsync(request, Converters.BigInteger));
+            }
+
+            Assert.Equal(calls, handler.Buffers.Count);
+            Assert.True(handler.Buffers.Distinct().Count() < calls);
+        }
+
+        private class BufferRecordingHttpMessageHandler : HttpMessageHandler
+        {
+            private readonly string _responseBody;
+
+            public BufferRecordingHttpMessageHandler(string responseBody)
+            {
+                _responseBody = responseBody;
+                Buffers = new List<byte[]>();
+            }
+
+            public List<byte[]> Buffers { get; }
+
+            protected override async Task<HttpResponseMessage> SendAsync(HttpRequestMessage request, CancellationToken cancellationToken)
+            {
+                var stream = new BufferRecordingStream();
+
+                await request.Content.CopyToAsync(stream);
+
+                Buffers.Add(stream.Buffer);
+
+                return StubHttpMessageHandler.Json(_responseBody);
+            }
+        }
+
+        private class BufferRecordingStream : MemoryStream
+        {
+            public byte[] Buffer { get; private set; }
+
+            public override void Write(byte[] buffer, int offset, int count)
+            {
+                Buffer = buffer;
+
+                base.Write(buffer, offset, count);
+            }
+
+            public override Task WriteAsync(byte[] buffer, int offset, int count, CancellationToken cancellationToken)
+            {
+                Buffer = buffer;
+
+                return base.WriteAsync(buffer, offset, count, cancellationToken);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+using System.Collections.Generic;
+using System.Linq;
+using System.Numerics;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Transport.Jsonrpc
+{
+    public class RpcObjectTest
+    {
+        [Theory]
+        [InlineData(0)]
+        [InlineData(3)]
+        [InlineData(8)]
+        [InlineData(9)]
+        [InlineData(16)]
+        [InlineData(17)]
+        [InlineData(100)]
+        public void TestItemsAreFoundInInsertionOrder(int size)
+        {
+            var builder = new RpcObject.Builder();
+
+            for (var i = size - 1; i >= 0; i--)
+            {
+                builder.Put("key" + i, new RpcValue(new BigInteger(i + 1)));
+            }
+
+            var @object = builder.Build();
+
+            Assert.Equal(size, @object.Size());
+            Assert.Equal(size == 0, @object.IsEmpty());
+            Assert.Equal(Enumerable.Range(0, size).Reverse().Select(x => "key" + x), @object.GetKeys());
+
+            for (var i = 0; i < size; i++)
+            {
+                Assert.Equal(new BigInteger(i + 1), @object.GetItem("key" + i).ToInteger());
+            }
+
+            Assert.Null(@object.GetItem("missing"));
+        }
+
+        [Theory]
+        [InlineData(2)]
+        [InlineData(20)]
+        public void TestFirstItemIsKeptAndEmptyItemsAreSkipped(int size)
+        {
+            var builder = new RpcObject.Builder();
+
+            for (var i = 0; i < size; i++)
+            {
+                builder.Put("key" + i, new RpcValue("first"));
+            }
+
+            builder
+                .Put("key0", new RpcValue("second"))
+                .Put("empty", new RpcValue(""))
+                .Put("null", null);
+
+            var @object = builder.Build();
+
+            Assert.Equal(size, @object.Size());
+            Assert.Equal("first", @object.GetItem("key0").ToString());
+            Assert.Null(@object.GetItem("empty"));
+            Assert.Null(@object.GetItem("null"));
+        }
+
+        [Theory]
+        [InlineData(1)]
+        [InlineData(8)]
+        [InlineData(16)]
+        [InlineData(20)]
+        public void TestBuiltObjectIsNotChangedByBuilder(int size)
+        {
+            var builder = new RpcObject.Builder();
+
+            for (var i = 0; i < size; i++)
+            {
+                builder.Put("key" + i, new RpcValue("1"));
+            }
+
+            var @object = builder.Build();
+
+            builder.Put("b", new RpcValue("2"));
+
+            Assert.Equal(size, @object.Size());
+            Assert.Null(@object.GetItem("b"));
+            Assert.DoesNotContain("b", @object.GetKeys());
+
+            var next = builder.Build();
+
+            builder.Put("c", new RpcValue("3"));
+
+            Assert.Equal(size, @object.Size());
+            Assert.Equal(size + 1, next.Size());
+            Assert.Null(next.GetItem("c"));
+            Assert.Equal(size + 2, builder.Build().Size());
+        }
+
+        [Fact]
+        public void TestKeysCanNotBeModified()
+        {
+            var @object = new RpcObject.Builder().Put("a", new RpcValue("1")).Build();
+
+            Assert.False(@object.GetKeys() is string[]);
+            Assert.False(@object.GetKeys() is ICollection<string> collection && !collection.IsReadOnly);
+        }
+
+        [Fact]
+        public void TestCommonKeysAreShared()
+        {
+            var key = new string("txHash".ToCharArray());
+            var @object = new RpcObject.Builder().Put(key, new RpcValue("0x1")).Build();
+
+            Assert.NotSame("txHash", key);
+            Assert.Same("txHash", @object.GetKeys().Single());
+            Assert.Equal("0x1", @object.GetItem("txHash").ToString());
+        }
+    }
+}
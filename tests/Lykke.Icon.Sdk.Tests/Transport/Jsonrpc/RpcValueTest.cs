@@ -1,6 +1,7 @@
 using System.Globalization;
 using System.Linq;
 using System.Numerics;
+using System.Threading.Tasks;
 using Lykke.Icon.Sdk.Transport.JsonRpc;
 using Xunit;
 
@@ -60,6 +61,71 @@ public void TestAsInteger()
             Assert.Throws<RpcValueException>(() => plusHex.ToInteger());
         }
 
+        [Fact]
+        public void TestNegativeIntegerIsStableBetweenCalls()
+        {
+            var minusHex = new RpcValue("-0x4d2");
+
+            Assert.Equal(BigInteger.Parse("-1234"), minusHex.ToInteger());
+            Assert.Equal(BigInteger.Parse("-1234"), minusHex.ToInteger());
+            Assert.Equal("-0x4d2", minusHex.ToString());
+        }
+
+        [Fact]
+        public void TestConcurrentIntegerReads()
+        {
+            var value = new RpcValue("-0x1234567890abcdef1234567890abcdef");
+            var expected = -BigInteger.Parse("01234567890abcdef1234567890abcdef", NumberStyles.HexNumber);
+
+            var results = Enumerable.Range(0, 1000).AsParallel().Select(x => value.ToInteger()).ToArray();
+
+            Assert.All(results, x => Assert.Equal(expected, x));
+        }
+
+        [Fact]
+        public void TestIntegerFromBigIntegerConstructor()
+        {
+            Assert.Equal(BigInteger.Zero, new RpcValue(BigInteger.Zero).ToInteger());
+            Assert.Equal(BigInteger.Parse("-1234"), new RpcValue(BigInteger.Parse("-1234")).ToInteger());
+        }
+
+        [Theory]
+        [InlineData("0x0", 0L)]
+        [InlineData("0x4d2", 1234L)]
+        [InlineData("-0x4d2", -1234L)]
+        [InlineData("0x00000000000000007fffffffffffffff", long.MaxValue)]
+        [InlineData("-0x8000000000000000", long.MinValue)]
+        public void TestTryToInt64(string hex, long expected)
+        {
+            Assert.True(new RpcValue(hex).TryToInt64(out var value));
+            Assert.Equal(expected, value);
+            Assert.Equal(new BigInteger(expected), new RpcValue(hex).ToInteger());
+        }
+
+        [Theory]
+        [InlineData("0x8000000000000000")]
+        [InlineData("-0x8000000000000001")]
+        [InlineData("0x10000000000000000")]
+        [InlineData("4d2")]
+        [InlineData("0x4g2")]
+        [InlineData("string value")]
+        public void TestTryToInt64Fails(string hex)
+        {
+            Assert.False(new RpcValue(hex).TryToInt64(out _));
+        }
+
+        [Fact]
+        public void TestTryToUInt64()
+        {
+            Assert.True(new RpcValue("0xffffffffffffffff").TryToUInt64(out var max));
+            Assert.Equal(ulong.MaxValue, max);
+            Assert.True(new RpcValue("-0x0").TryToUInt64(out var zero));
+            Assert.Equal(0UL, zero);
+            Assert.False(new RpcValue("-0x1").TryToUInt64(out _));
+            Assert.False(new RpcValue("0x10000000000000000").TryToUInt64(out _));
+            Assert.Equal(BigInteger.Parse("18446744073709551615"), new RpcValue("0xffffffffffffffff").ToInteger());
+        }
+
         [Fact]
         public void TestAsBoolean()
         {
@@ -0,0 +1,126 @@
+using System.Collections.Generic;
+using System.IO;
+using System.Linq;
+using System.Text;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Newtonsoft.Json.Linq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Transport.Jsonrpc
+{
+    public class Utf8JsonRpcCodecTest
+    {
+        private static readonly string[] ResponseFixtures =
+        {
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1234\"}",
+            "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":{\"stringValue\":\"string\",\"array\":[{\"longValue\":1533018344753765,\"stringValue\":\"string\",\"intValue\":\"0x4d2\",\"booleanValue\":\"0x0\",\"bytesValue\":\"0x010203\"},\"0x4d2\",\"0x0\",\"string\",\"0x010203\"],\"intValue\":\"0x4d2\",\"booleanValue\":\"0x0\",\"bytesValue\":\"0x010203\",\"object\":{\"stringValue\":\"string\",\"intValue\":\"0x4d2\",\"booleanValue\":\"0x0\",\"bytesValue\":\"0x010203\"}}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":{\"big\":123456789012345678901234567890,\"negative\":-5,\"flag\":true,\"empty\":null,\"unicode\":\"\\u00e9\\u4e2d\",\"nested\":[[1,2],[]]}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":4,\"error\":{\"code\":-32602,\"message\":\"Invalid params txHash\"}}"
+        };
+
+        [Fact]
+        public async Task TestResponsesMatchNewtonsoftCodec()
+        {
+            var newtonsoftCodec = new NewtonsoftRpcCodec();
+            var utf8Codec = new Utf8JsonRpcCodec();
+
+            foreach (var fixture in ResponseFixtures)
+            {
+                var expected = await newtonsoftCodec.ReadResponseAsync(ToStream(fixture));
+                var actual = await utf8Codec.ReadResponseAsync(ToStream(fixture));
+
+                Assert.Equal(expected.Id, actual.Id);
+                Assert.Equal(expected.Jsonrpc, actual.Jsonrpc);
+                Assert.Equal(expected.Error?.Code, actual.Error?.Code);
+                Assert.Equal(expected.Error?.Message, actual.Error?.Message);
+                AssertEquivalent(expected.Result, actual.Result);
+            }
+        }
+
+        [Fact]
+        public async Task TestBatchResponseMatchesNewtonsoftCodec()
+        {
+            var batch = "[" + string.Join(",", ResponseFixtures) + "]";
+
+            var expected = await new NewtonsoftRpcCodec().ReadBatchResponseAsync(ToStream(batch));
+            var actual = await new Utf8JsonRpcCodec().ReadBatchResponseAsync(ToStream(batch));
+
+            Assert.Equal(expected.Count, actual.Count);
+
+            for (var i = 0; i < expected.Count; i++)
+            {
+                Assert.Equal(expected[i].Id, actual[i].Id);
+                AssertEquivalent(expected[i].Result, actual[i].Result);
+            }
+        }
+
+        [Fact]
+        public void TestRequestsMatchNewtonsoftCodec()
+        {
+            var @params = new RpcObject.Builder()
+                .Put("txHash", new RpcValue("0x2600770376fbf291d3d445054d45ed15280dd33c2038931aace3f7ea2ab59dbc"))
+                .Put("data", new RpcObject.Builder()
+                    .Put("method", new RpcValue("transfer"))
+                    .Put("list", new RpcArray.Builder().Add(new RpcValue("a+b")).Add(new RpcValue("<é>")).Build())
+                    .Build())
+                .Build();
+
+            var requests = new List<Request>
+            {
+                new Request(1, "icx_getTransactionResult", @params),
+                new Request(2, "icx_getLastBlock", null)
+            };
+
+            var expected = JToken.Parse(Write(stream => new NewtonsoftRpcCodec().WriteBatchRequest(stream, requests)));
+            var actual = JToken.Parse(Write(stream => new Utf8JsonRpcCodec().WriteBatchRequest(stream, requests)));
+
+            Assert.True(JToken.DeepEquals(expected, actual), actual.ToString());
+        }
+
+        private static void AssertEquivalent(RpcItem expected, RpcItem actual)
+        {
+            switch (expected)
+            {
+                case null:
+                    Assert.Null(actual);
+                    break;
+                case RpcObject expectedObject:
+                    var actualObject = Assert.IsType<RpcObject>(actual);
+                    Assert.Equal(expectedObject.GetKeys().OrderBy(x => x), actualObject.GetKeys().OrderBy(x => x));
+                    foreach (var key in expectedObject.GetKeys())
+                    {
+                        AssertEquivalent(expectedObject.GetItem(key), actualObject.GetItem(key));
+                    }
+                    break;
+                case RpcArray expectedArray:
+                    var actualArray = Assert.IsType<RpcArray>(actual);
+                    Assert.Equal(expectedArray.Size(), actualArray.Size());
+                    for (var i = 0; i < expectedArray.Size(); i++)
+                    {
+                        AssertEquivalent(expectedArray.Get(i), actualArray.Get(i));
+                    }
+                    break;
+                default:
+                    Assert.IsType<RpcValue>(actual);
+                    Assert.Equal(expected.ToString(), actual.ToString());
+                    break;
+            }
+        }
+
+        private static Stream ToStream(string json)
+        {
+            return new MemoryStream(Encoding.UTF8.GetBytes(json));
+        }
+
+        private static string Write(System.Action<Stream> write)
+        {
+            using (var stream = new MemoryStream())
+            {
+                write(stream);
+
+                return Encoding.UTF8.GetString(stream.ToArray());
+            }
+        }
+    }
+}
@@ -0,0 +1,391 @@
+using System;
+using System.Collections.Concurrent;
+using System.Linq;
+using System.Net;
+using System.Net.Http;
+using System.Numerics;
+using System.Threading.Tasks;
+using Lykke.Icon.Sdk.Data;
+using Lykke.Icon.Sdk.Tests.Utils;
+using Lykke.Icon.Sdk.Transport.JsonRpc;
+using Lykke.Icon.Sdk.Transport.LoadBalancing;
+using Newtonsoft.Json.Linq;
+using Xunit;
+
+namespace Lykke.Icon.Sdk.Tests.Transport.LoadBalancing
+{
+    public class MultiNodeProviderTest
+    {
+        private static readonly string[] Urls = { "http://node0/api/v3", "http://node1/api/v3", "http://node2/api/v3" };
+
+        [Fact]
+        public async Task TestFailedNodeIsEjected()
+        {
+            var nodes = new StubNodes();
+
+            nodes.Respond(0, body => Task.FromResult(StubHttpMessageHandler.Json("Bad gateway", HttpStatusCode.BadGateway)));
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions());
+
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(2), Converters.BigInteger));
+
+            // The first request fails over from node0, the second one goes straight to node1
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(2, nodes.GetRequestCount(1));
+
+            var statistics = provider.GetNodeStatistics();
+            Assert.True(statistics[0].IsEjected);
+            Assert.False(statistics[1].IsEjected);
+        }
+
+        [Fact]
+        public async Task TestEjectedNodeIsProbedBack()
+        {
+            var nodes = new StubNodes();
+            var isNode0Down = true;
+
+            nodes.Respond(0, body => isNode0Down
+                ? Task.FromResult(StubHttpMessageHandler.Json("Unavailable", HttpStatusCode.ServiceUnavailable))
+                : Task.FromResult(StubNodes.Result(body, "0x1")));
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EjectionTime = TimeSpan.FromMilliseconds(50)
+            });
+
+            await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger);
+            Assert.True(provider.GetNodeStatistics()[0].IsEjected);
+
+            isNode0Down = false;
+            await Task.Delay(100);
+
+            Assert.False(provider.GetNodeStatistics()[0].IsEjected);
+
+            // Node0 is idle and has no latency recorded, so it takes the probe and returns to rotation
+            await provider.SendRequestAsync(TotalSupplyRequest(2), Converters.BigInteger);
+
+            Assert.Equal(2, nodes.GetRequestCount(0));
+            Assert.False(provider.GetNodeStatistics()[0].IsEjected);
+        }
+
+        [Fact]
+        public async Task TestAllEjectedNodesAreProbedOneAtATime()
+        {
+            var nodes = new StubNodes();
+            var isDown = true;
+            var probeResponse = new TaskCompletionSource<HttpResponseMessage>();
+
+            for (var node = 0; node < 2; node++)
+            {
+                nodes.Respond(node, async body =>
+                {
+                    if (isDown)
+                    {
+                        return StubHttpMessageHandler.Json("Bad gateway", HttpStatusCode.BadGateway);
+                    }
+
+                    await probeResponse.Task;
+
+                    return StubNodes.Result(body, "0x1");
+                });
+            }
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EjectionTime = TimeSpan.FromMinutes(1)
+            });
+
+            await Assert.ThrowsAsync<HttpRequestException>(() => provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+            Assert.True(provider.GetNodeStatistics()[0].IsEjected);
+            Assert.True(provider.GetNodeStatistics()[1].IsEjected);
+
+            isDown = false;
+
+            // Each ejected node takes a single early probe, the next request fails fast
+            var probe0 = provider.SendRequestAsync(TotalSupplyRequest(2), Converters.BigInteger);
+            var probe1 = provider.SendRequestAsync(TotalSupplyRequest(3), Converters.BigInteger);
+
+            await Assert.ThrowsAsync<HttpRequestException>(() => provider.SendRequestAsync(TotalSupplyRequest(4), Converters.BigInteger));
+
+            probeResponse.SetResult(null);
+
+            Assert.Equal(BigInteger.One, await probe0);
+            Assert.Equal(BigInteger.One, await probe1);
+            Assert.Equal(2, nodes.GetRequestCount(0));
+            Assert.Equal(2, nodes.GetRequestCount(1));
+            Assert.False(provider.GetNodeStatistics()[0].IsEjected);
+            Assert.False(provider.GetNodeStatistics()[1].IsEjected);
+        }
+
+        [Fact]
+        public async Task TestSendTransactionGoesToPreferredNode()
+        {
+            var nodes = new StubNodes();
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                PreferredSendTransactionNode = 1
+            });
+
+            for (var i = 1; i <= 3; i++)
+            {
+                await provider.SendRequestAsync(new Request(i, RpcMethods.SendTransaction, null), Converters.String);
+            }
+
+            Assert.Equal(0, nodes.GetRequestCount(0));
+            Assert.Equal(3, nodes.GetRequestCount(1));
+        }
+
+        [Fact]
+        public async Task TestSendTransactionIsNotRetried()
+        {
+            var nodes = new StubNodes();
+
+            nodes.Respond(0, body => Task.FromResult(StubHttpMessageHandler.Json("Bad gateway", HttpStatusCode.BadGateway)));
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                PreferredSendTransactionNode = 0
+            });
+
+            await Assert.ThrowsAsync<HttpRequestException>(() =>
+                provider.SendRequestAsync(new Request(1, RpcMethods.SendTransaction, null), Converters.String));
+
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(0, nodes.GetRequestCount(1));
+        }
+
+        [Fact]
+        public async Task TestRequestGoesToLeastLoadedNode()
+        {
+            var nodes = new StubNodes();
+            var node0Response = new TaskCompletionSource<HttpResponseMessage>();
+
+            nodes.Respond(0, body => node0Response.Task);
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions());
+            var stalledRequest = provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger);
+
+            for (var i = 2; i <= 4; i++)
+            {
+                await provider.SendRequestAsync(TotalSupplyRequest(i), Converters.BigInteger);
+            }
+
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(3, nodes.GetRequestCount(1));
+
+            node0Response.SetResult(StubHttpMessageHandler.Json("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}"));
+
+            Assert.Equal(BigInteger.One, await stalledRequest);
+        }
+
+        [Fact]
+        public async Task TestTimedOutNodeIsEjected()
+        {
+            var nodes = new StubNodes();
+
+            nodes.Respond(0, body => new TaskCompletionSource<HttpResponseMessage>().Task);
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                RequestTimeout = TimeSpan.FromMilliseconds(50)
+            });
+
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+            Assert.True(provider.GetNodeStatistics()[0].IsEjected);
+        }
+
+        [Fact]
+        public async Task TestSlowReadIsHedged()
+        {
+            var nodes = new StubNodes();
+            var node0Response = new TaskCompletionSource<HttpResponseMessage>();
+
+            nodes.Respond(0, body => node0Response.Task);
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EnableHedging = true,
+                HedgingDelay = TimeSpan.FromMilliseconds(20)
+            });
+
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(1, nodes.GetRequestCount(1));
+
+            var statistics = provider.GetHedgingStatistics();
+            Assert.Equal(1, statistics.HedgesFired);
+            Assert.Equal(1, statistics.HedgesWon);
+
+            node0Response.SetResult(StubHttpMessageHandler.Json("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}"));
+        }
+
+        [Fact]
+        public async Task TestHedgeIsNotWonAfterPrimaryFailure()
+        {
+            var nodes = new StubNodes();
+
+            nodes.Respond(0, async body =>
+            {
+                await Task.Delay(50);
+
+                return StubHttpMessageHandler.Json("Bad gateway", HttpStatusCode.BadGateway);
+            });
+
+            nodes.Respond(1, async body =>
+            {
+                await Task.Delay(150);
+
+                return StubNodes.Result(body, "0x1");
+            });
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EnableHedging = true,
+                HedgingDelay = TimeSpan.FromMilliseconds(10)
+            });
+
+            // The hedge answers, but only after the primary has failed, so it did not win a race
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+
+            var statistics = provider.GetHedgingStatistics();
+            Assert.Equal(1, statistics.HedgesFired);
+            Assert.Equal(0, statistics.HedgesWon);
+        }
+
+        [Fact]
+        public async Task TestSlowFailuresAreFailedOver()
+        {
+            var nodes = new StubNodes(3);
+
+            for (var node = 0; node < 2; node++)
+            {
+                var failureDelay = 50 * (node + 1);
+
+                nodes.Respond(node, async body =>
+                {
+                    await Task.Delay(failureDelay);
+
+                    return StubHttpMessageHandler.Json("Bad gateway", HttpStatusCode.BadGateway);
+                });
+            }
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EnableHedging = true,
+                HedgingDelay = TimeSpan.FromMilliseconds(10),
+                MaxAttempts = 3
+            });
+
+            // Primary and hedge both fail after the hedging delay, the third node still gets its attempt
+            Assert.Equal(BigInteger.One, await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger));
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(1, nodes.GetRequestCount(1));
+            Assert.Equal(1, nodes.GetRequestCount(2));
+            Assert.Equal(1, provider.GetHedgingStatistics().HedgesFired);
+        }
+
+        [Fact]
+        public async Task TestFastReadIsNotHedged()
+        {
+            var nodes = new StubNodes();
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EnableHedging = true,
+                HedgingDelay = TimeSpan.FromSeconds(5)
+            });
+
+            await provider.SendRequestAsync(TotalSupplyRequest(1), Converters.BigInteger);
+
+            Assert.Equal(1, nodes.GetRequestCount(0) + nodes.GetRequestCount(1));
+            Assert.Equal(0, provider.GetHedgingStatistics().HedgesFired);
+        }
+
+        [Fact]
+        public async Task TestSendTransactionIsNotHedged()
+        {
+            var nodes = new StubNodes();
+
+            nodes.Respond(0, async body =>
+            {
+                await Task.Delay(100);
+
+                return StubNodes.Result(body, "0x1");
+            });
+
+            var provider = nodes.CreateProvider(new MultiNodeProviderOptions
+            {
+                EnableHedging = true,
+                HedgingDelay = TimeSpan.FromMilliseconds(10),
+                PreferredSendTransactionNode = 0
+            });
+
+            await provider.SendRequestAsync(new Request(1, RpcMethods.SendTransaction, null), Converters.String);
+
+            Assert.Equal(1, nodes.GetRequestCount(0));
+            Assert.Equal(0, nodes.GetRequestCount(1));
+            Assert.Equal(0, provider.GetHedgingStatistics().HedgesFired);
+        }
+
+        private static Request TotalSupplyRequest(long id)
+        {
+            return new Request(id, RpcMethods.GetTotalSupply, null);
+        }
+
+        /// <summary>
+        ///    Set of stub nodes, each of them answers "0x1" to any request unless configured otherwise
+        /// </summary>
+        private class StubNodes
+        {
+            private readonly ConcurrentDictionary<string, Func<string, Task<HttpResponseMessage>>> _responders;
+            private readonly ConcurrentDictionary<string, int> _requestCounts;
+            private readonly StubHttpMessageHandler _handler;
+            private readonly int _nodeCount;
+
+            public StubNodes(int nodeCount = 2)
+            {
+                _nodeCount = nodeCount;
+                _responders = new ConcurrentDictionary<string, Func<string, Task<HttpResponseMessage>>>();
+                _requestCounts = new ConcurrentDictionary<string, int>();
+                _handler = new StubHttpMessageHandler((request, body) =>
+                {
+                    var host = request.RequestUri.Host;
+
+                    _requestCounts.AddOrUpdate(host, 1, (key, count) => count + 1);
+
+                    return _responders.TryGetValue(host, out var respond)
+                        ? respond(body)
+                        : Task.FromResult(Result(body, "0x1"));
+                });
+            }
+
+            public static HttpResponseMessage Result(string requestBody, string result)
+            {
+                var id = JObject.Parse(requestBody).Value<long>("id");
+
+                return StubHttpMessageHandler.Json($"{{\"jsonrpc\":\"2.0\",\"id\":{id},\"result\":\"{result}\"}}");
+            }
+
+            public void Respond(int node, Func<string, Task<HttpResponseMessage>> respond)
+            {
+                _responders[GetHost(node)] = respond;
+            }
+
+            public int GetRequestCount(int node)
+            {
+                return _requestCounts.TryGetValue(GetHost(node), out var count) ? count : 0;
+            }
+
+            public MultiNodeProvider CreateProvider(MultiNodeProviderOptions options)
+            {
+                return new MultiNodeProvider(new HttpClient(_handler), Urls.Take(_nodeCount).ToList(), options);
+            }
+
+            private static string GetHost(int node)
+            {
+                return new Uri(Urls[node]).Host;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+using System;
+using System.Collections.Generic;
+using System.Net;
+using System.Net.Http;
+using System.Text;
+using System.Threading;
+using System.Threading.Tasks;
+
+namespace Lykke.Icon.Sdk.Tests.Utils
+{
+    public class StubHttpMessageHandler : HttpMessageHandler
+    {
+        private readonly Func<HttpRequestMessage, string, Task<HttpResponseMessage>> _respond;
+        private readonly List<string> _requestBodies;
+
+        public StubHttpMessageHandler(Func<string, string> respond)
+            : this((request, body) => Task.FromResult(Json(respond(body))))
+        {
+            
+        }
+
+        public StubHttpMessageHandler(Func<HttpRequestMessage, string, Task<HttpResponseMessage>> respond)
+        {
+            _respond = respond;
+            _requestBodies = new List<string>();
+        }
+
+        public IReadOnlyList<string> RequestBodies
+        {
+            get
+            {
+                lock (_requestBodies)
+                {
+                    return _requestBodies.ToArray();
+                }
+            }
+        }
+
+        public static HttpResponseMessage Json(string body, HttpStatusCode statusCode = HttpStatusCode.OK)
+        {
+            return new HttpResponseMessage(statusCode)
+            {
+                Content = new StringContent(body, Encoding.UTF8, "application/json")
+            };
+        }
+
+        protected override async Task<HttpResponseMessage> SendAsync(HttpRequestMessage request, CancellationToken cancellationToken)
+        {
+            var body = await request.Content.ReadAsStringAsync();
+
+            lock (_requestBodies)
+            {
+                _requestBodies.Add(body);
+            }
+
+            return await _respond(request, body);
+        }
+    }
+}